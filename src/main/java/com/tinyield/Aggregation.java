@@ -0,0 +1,42 @@
+package com.tinyield;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+/**
+ * Feeds every element of a single pass over a sequence to several {@link Collector}s.
+ */
+final class Aggregation<T> {
+    private final Collector<? super T, Object, ?>[] collectors;
+    private final BiConsumer<Object, ? super T>[] accumulators;
+    private final Object[] containers;
+
+    @SuppressWarnings("unchecked")
+    Aggregation(Collection<? extends Collector<? super T, ?, ?>> collectors) {
+        int size = collectors.size();
+        this.collectors = (Collector<? super T, Object, ?>[]) collectors.toArray(new Collector<?, ?, ?>[0]);
+        this.accumulators = (BiConsumer<Object, ? super T>[]) new BiConsumer<?, ?>[size];
+        this.containers = new Object[size];
+        for (int i = 0; i < size; i++) {
+            accumulators[i] = this.collectors[i].accumulator();
+            containers[i] = this.collectors[i].supplier().get();
+        }
+    }
+
+    void accept(T elem) {
+        for (int i = 0; i < containers.length; i++) {
+            accumulators[i].accept(containers[i], elem);
+        }
+    }
+
+    List<Object> results() {
+        List<Object> results = new ArrayList<>(containers.length);
+        for (int i = 0; i < containers.length; i++) {
+            results.add(collectors[i].finisher().apply(containers[i]));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,93 @@
+package com.tinyield;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Stateful predicates that drop repeated keys while remembering only a bounded number of them.
+ */
+final class BoundedDistinct {
+
+    private BoundedDistinct() {
+    }
+
+    static int requireCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity " + capacity + " is less than zero.");
+        }
+        return capacity;
+    }
+
+    /**
+     * @return a predicate that rejects elements whose key is equal to the key of one of the {@param windowSize}
+     * elements tested before them, accepted or not.
+     */
+    static <T, K> Predicate<T> window(int windowSize, Function<? super T, ? extends K> selector) {
+        return new Window<>(windowSize, selector);
+    }
+
+    /**
+     * @return a predicate that rejects elements whose key is among the {@param maxKeys} most recently seen keys.
+     *
+     * Seeing a key again, even on a rejected element, makes it the most recently seen.
+     */
+    static <T, K> Predicate<T> lru(int maxKeys, Function<? super T, ? extends K> selector) {
+        Map<Object, Boolean> seen = new LinkedHashMap<Object, Boolean>(Hashing.capacityFor(maxKeys, 0.75f), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+                return size() > maxKeys;
+            }
+        };
+        return elem -> seen.put(selector.apply(elem), Boolean.TRUE) == null;
+    }
+
+    /**
+     * Keeps the keys of the window in a ring buffer, together with the number of occurrences of each key.
+     */
+    static final class Window<T, K> implements Predicate<T> {
+        private final Function<? super T, ? extends K> selector;
+        private final Object[] ring;
+        private final Map<Object, int[]> occurrences;
+        private int head;
+        private int size;
+
+        Window(int windowSize, Function<? super T, ? extends K> selector) {
+            this.selector = selector;
+            this.ring = new Object[windowSize];
+            this.occurrences = new HashMap<>(Hashing.capacityFor(windowSize, 0.75f));
+        }
+
+        @Override
+        public boolean test(T elem) {
+            if (ring.length == 0) {
+                return true;
+            }
+            K key = selector.apply(elem);
+            int[] count = occurrences.get(key);
+            boolean fresh = count == null;
+            if (size == ring.length) {
+                Object evicted = ring[head];
+                int[] evictedCount = occurrences.get(evicted);
+                if (--evictedCount[0] == 0) {
+                    occurrences.remove(evicted);
+                    if (evictedCount == count) {
+                        count = null;
+                    }
+                }
+            } else {
+                size++;
+            }
+            ring[head] = key;
+            head = head + 1 == ring.length ? 0 : head + 1;
+            if (count == null) {
+                count = new int[1];
+                occurrences.put(key, count);
+            }
+            count[0]++;
+            return fresh;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.tinyield;
+
+import kotlin.collections.AbstractIterator;
+import kotlin.sequences.Sequence;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link Sek} over the concatenation of several sources, each one a {@link Sequence} or an {@link Iterable}.
+ *
+ * <p>Appending a source returns a new node that links to the previous one, so that chains of {@code plus}
+ * calls share their prefix and take constant time each, instead of wrapping the previous sequence in a new
+ * level of iterators. The chain is flattened into an array of sources when iteration starts.
+ *
+ * <p>{@code flatten} and {@code flatMap} return a {@link FlatSek}, which records its source and transform instead of
+ * wrapping the iterator of the source, so that nested and chained flat maps are expanded by a single iterator.
+ */
+final class ConcatSek<T> implements Sek<T> {
+    private final ConcatSek<T> previous;
+    private final Object source;
+    private final int count;
+
+    private ConcatSek(ConcatSek<T> previous, Object source) {
+        this.previous = previous;
+        this.source = source;
+        this.count = previous == null ? 1 : previous.count + 1;
+    }
+
+    /**
+     * @return a sequence of the elements of {@param first} followed by those of {@param second}, which is
+     * a {@link Sequence} or an {@link Iterable}.
+     */
+    static <T> Sek<T> concat(Sek<T> first, Object second) {
+        ConcatSek<T> chain = first instanceof ConcatSek ? (ConcatSek<T>) first : new ConcatSek<>(null, first);
+        return new ConcatSek<>(chain, second);
+    }
+
+    static <T> Sek<T> concat(Collection<? extends Sequence<? extends T>> sources) {
+        ConcatSek<T> chain = null;
+        for (Sequence<? extends T> source : sources) {
+            chain = new ConcatSek<>(chain, source);
+        }
+        return chain == null ? Sek.empty() : chain;
+    }
+
+    private Object[] sources() {
+        Object[] sources = new Object[count];
+        for (ConcatSek<T> node = this; node != null; node = node.previous) {
+            sources[node.count - 1] = node.source;
+        }
+        return sources;
+    }
+
+    /**
+     * @return a sequence of the elements of the sources returned by {@param transform} for each element
+     * of {@param source}, where sources are {@link Sequence}s or {@link Iterable}s.
+     */
+    static <R> Sek<R> flatMap(Sequence<?> source, Function<?, ?> transform) {
+        return new FlatSek<>(source, transform);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new FlatIterator<>(this);
+    }
+
+    /**
+     * A flat map of {@code source}, where a `null` {@code transform} stands for the identity of {@code flatten}.
+     */
+    static final class FlatSek<T> implements Sek<T> {
+        private final Sequence<?> source;
+        private final Function<?, ?> transform;
+
+        FlatSek(Sequence<?> source, Function<?, ?> transform) {
+            this.source = source;
+            this.transform = transform;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new FlatIterator<>(this);
+        }
+    }
+
+    /**
+     * A transform to apply to each element of a frame, followed by the transforms to apply to the elements of
+     * the source that it returns. A `null` {@code transform} takes the element itself as the source.
+     */
+    private static final class Step {
+        final Function<Object, ?> transform;
+        final Step next;
+
+        @SuppressWarnings("unchecked")
+        Step(Function<?, ?> transform, Step next) {
+            this.transform = (Function<Object, ?>) transform;
+            this.next = next;
+        }
+    }
+
+    /**
+     * The elements of one source being iterated, and the steps that remain to be applied to them.
+     * Only lists that cannot be structurally modified are read by index, so that other lists still fail fast
+     * when they are modified during iteration.
+     */
+    private static final class Frame {
+        private static final Class<?> ARRAYS_LIST = Arrays.asList().getClass();
+
+        final Step step;
+        private final List<?> list;
+        private final Iterator<?> iterator;
+        private int index;
+
+        Frame(Object source, Step step) {
+            this.step = step;
+            List<?> elements = source instanceof ListSek ? ((ListSek<?>) source).list : null;
+            if (elements == null && source instanceof List) {
+                elements = (List<?>) source;
+            }
+            if (elements instanceof FrozenList || elements != null && elements.getClass() == ARRAYS_LIST) {
+                this.list = elements;
+                this.iterator = null;
+            } else {
+                this.list = null;
+                this.iterator = source instanceof Sequence ? ((Sequence<?>) source).iterator() : ((Iterable<?>) source).iterator();
+            }
+        }
+
+        boolean hasNext() {
+            return list != null ? index < list.size() : iterator.hasNext();
+        }
+
+        Object next() {
+            return list != null ? list.get(index++) : iterator.next();
+        }
+    }
+
+    /**
+     * Iterates the elements of a {@link ConcatSek} or a {@link FlatSek} with an explicit stack of frames, one per
+     * source being iterated. Nested concatenations and flat maps are expanded into further frames instead of
+     * nested iterators, so the depth of the stack of the calling thread does not depend on how the sources
+     * were combined.
+     */
+    static final class FlatIterator<T> extends AbstractIterator<T> {
+        private final Deque<Frame> frames = new ArrayDeque<>();
+
+        FlatIterator(Object source) {
+            open(source, null);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void computeNext() {
+            while (true) {
+                Frame frame = frames.peek();
+                if (frame == null) {
+                    done();
+                    return;
+                }
+                if (!frame.hasNext()) {
+                    frames.pop();
+                    continue;
+                }
+                Object element = frame.next();
+                Step step = frame.step;
+                if (step == null) {
+                    setNext((T) element);
+                    return;
+                }
+                open(step.transform == null ? element : step.transform.apply(element), step.next);
+            }
+        }
+
+        /**
+         * Pushes the frame that iterates {@param source}, whose elements then go through {@param step}.
+         */
+        private void open(Object source, Step step) {
+            while (source instanceof FlatSek) {
+                FlatSek<?> flat = (FlatSek<?>) source;
+                step = new Step(flat.transform, step);
+                source = flat.source;
+            }
+            if (source instanceof ConcatSek) {
+                source = Arrays.asList(((ConcatSek<?>) source).sources());
+                step = new Step(null, step);
+            }
+            frames.push(new Frame(source, step));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.tinyield;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list over an exactly sized array, without the spare capacity of an {@link java.util.ArrayList}.
+ */
+final class FrozenList<T> extends AbstractList<T> implements RandomAccess {
+    private final Object[] elements;
+
+    FrozenList(Object[] elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < elements.length; i++) {
+            if (o == null ? elements[i] == null : o.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(elements);
+    }
+}
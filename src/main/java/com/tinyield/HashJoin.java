@@ -0,0 +1,370 @@
+package com.tinyield;
+
+import kotlin.collections.AbstractIterator;
+import kotlin.sequences.Sequence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hash joins between two sequences, where the hash table is built from the elements of the
+ * build side and the elements of the probe side are streamed through it lazily.
+ */
+final class HashJoin {
+
+    private HashJoin() {
+    }
+
+    /**
+     * Looks up the elements of the build side that match a probe element and iterates over them.
+     */
+    interface Table<T, U> {
+        /**
+         * Positions this table over the build elements matching {@param probe}.
+         *
+         * @return `true` if there is at least one match.
+         */
+        boolean seek(T probe);
+
+        boolean hasMatch();
+
+        U nextMatch();
+    }
+
+    static <T, U, R> Iterator<R> join(Iterator<T> probe, Table<T, U> table, boolean outer, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return new AbstractIterator<R>() {
+            private T current;
+
+            @Override
+            protected void computeNext() {
+                if (table.hasMatch()) {
+                    setNext(combiner.apply(current, table.nextMatch()));
+                    return;
+                }
+                while (probe.hasNext()) {
+                    T elem = probe.next();
+                    if (table.seek(elem)) {
+                        current = elem;
+                        setNext(combiner.apply(elem, table.nextMatch()));
+                        return;
+                    }
+                    if (outer) {
+                        setNext(combiner.apply(elem, null));
+                        return;
+                    }
+                }
+                done();
+            }
+        };
+    }
+
+    static <T, U> Iterator<T> filter(Iterator<T> probe, Table<T, U> table, boolean matching) {
+        return new AbstractIterator<T>() {
+            @Override
+            protected void computeNext() {
+                while (probe.hasNext()) {
+                    T elem = probe.next();
+                    if (table.seek(elem) == matching) {
+                        setNext(elem);
+                        return;
+                    }
+                }
+                done();
+            }
+        };
+    }
+
+    /**
+     * Maps each key to the single build element with that key or, for duplicate keys,
+     * to a {@link Bucket} with all of them, avoiding a list per distinct key.
+     */
+    static final class ObjectTable<T, U, K> implements Table<T, U> {
+        private static final Object NULL = new Object();
+        private final Map<K, Object> table = new HashMap<>();
+        private final Function<? super T, ? extends K> keySelector;
+        private Object match;
+        private int index;
+
+        ObjectTable(Sequence<? extends U> build, Function<? super U, ? extends K> buildKey, Function<? super T, ? extends K> keySelector, boolean keysOnly) {
+            this.keySelector = keySelector;
+            Iterator<? extends U> elements = build.iterator();
+            while (elements.hasNext()) {
+                U elem = elements.next();
+                K key = buildKey.apply(elem);
+                if (keysOnly) {
+                    table.put(key, NULL);
+                } else {
+                    table.merge(key, elem == null ? NULL : elem, ObjectTable::append);
+                }
+            }
+        }
+
+        private static Object append(Object previous, Object elem) {
+            Bucket bucket;
+            if (previous instanceof Bucket) {
+                bucket = (Bucket) previous;
+            } else {
+                bucket = new Bucket();
+                bucket.add(previous == NULL ? null : previous);
+            }
+            bucket.add(elem == NULL ? null : elem);
+            return bucket;
+        }
+
+        @Override
+        public boolean seek(T probe) {
+            match = table.get(keySelector.apply(probe));
+            index = 0;
+            return match != null;
+        }
+
+        @Override
+        public boolean hasMatch() {
+            return match != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public U nextMatch() {
+            if (match instanceof Bucket) {
+                Bucket bucket = (Bucket) match;
+                U next = (U) bucket.get(index++);
+                if (index == bucket.size()) {
+                    match = null;
+                }
+                return next;
+            }
+            U next = match == NULL ? null : (U) match;
+            match = null;
+            return next;
+        }
+
+        private static final class Bucket extends ArrayList<Object> {
+            private static final long serialVersionUID = 1L;
+
+            Bucket() {
+                super(2);
+            }
+        }
+    }
+
+    /**
+     * Open addressing table of primitive keys, where the build elements sharing a key
+     * are chained through the {@code next} array in their encounter order.
+     */
+    abstract static class PrimitiveTable<T, U> implements Table<T, U> {
+        private static final float LOAD_FACTOR = 0.75f;
+        private final boolean keysOnly;
+        int mask;
+        int size;
+        int[] heads;
+        int[] tails;
+        Object[] values = new Object[16];
+        int[] next = new int[16];
+        int entries;
+        private int match;
+
+        PrimitiveTable(boolean keysOnly) {
+            this.keysOnly = keysOnly;
+            allocate(16);
+        }
+
+        void allocate(int capacity) {
+            mask = capacity - 1;
+            heads = new int[capacity];
+            tails = new int[capacity];
+        }
+
+        /**
+         * @return `true` if adding one more key would exceed the load factor.
+         */
+        boolean full() {
+            return size + 1 > (mask + 1) * LOAD_FACTOR;
+        }
+
+        /**
+         * Appends {@param value} to the chain of the slot, where chains store entry indexes plus one.
+         * Tables that only keep keys mark the slot as used instead.
+         */
+        void append(int slot, Object value) {
+            if (keysOnly) {
+                heads[slot] = -1;
+                return;
+            }
+            if (entries == values.length) {
+                values = Arrays.copyOf(values, entries << 1);
+                next = Arrays.copyOf(next, entries << 1);
+            }
+            values[entries] = value;
+            int entry = ++entries;
+            if (heads[slot] == 0) {
+                heads[slot] = entry;
+            } else {
+                next[tails[slot] - 1] = entry;
+            }
+            tails[slot] = entry;
+        }
+
+        /**
+         * @return the slot holding the key of {@param probe}, or -1 if there is none.
+         */
+        abstract int find(T probe);
+
+        @Override
+        public boolean seek(T probe) {
+            int slot = find(probe);
+            match = slot < 0 ? 0 : heads[slot];
+            return match != 0;
+        }
+
+        @Override
+        public boolean hasMatch() {
+            return match != 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public U nextMatch() {
+            U value = (U) values[match - 1];
+            match = next[match - 1];
+            return value;
+        }
+    }
+
+    static final class IntTable<T, U> extends PrimitiveTable<T, U> {
+        private final ToIntFunction<? super T> keySelector;
+        private int[] keys;
+
+        IntTable(Sequence<? extends U> build, ToIntFunction<? super U> buildKey, ToIntFunction<? super T> keySelector, boolean keysOnly) {
+            super(keysOnly);
+            this.keySelector = keySelector;
+            this.keys = new int[mask + 1];
+            Iterator<? extends U> elements = build.iterator();
+            while (elements.hasNext()) {
+                U elem = elements.next();
+                append(slot(buildKey.applyAsInt(elem)), elem);
+            }
+        }
+
+        private int slot(int key) {
+            int slot = Hashing.mix(key) & mask;
+            while (heads[slot] != 0) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (full()) {
+                rehash();
+                return slot(key);
+            }
+            size++;
+            keys[slot] = key;
+            return slot;
+        }
+
+        private void rehash() {
+            int[] oldKeys = keys;
+            int[] oldHeads = heads;
+            int[] oldTails = tails;
+            allocate(oldKeys.length << 1);
+            keys = new int[mask + 1];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldHeads[i] != 0) {
+                    int slot = Hashing.mix(oldKeys[i]) & mask;
+                    while (heads[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    heads[slot] = oldHeads[i];
+                    tails[slot] = oldTails[i];
+                }
+            }
+        }
+
+        @Override
+        int find(T probe) {
+            int key = keySelector.applyAsInt(probe);
+            int slot = Hashing.mix(key) & mask;
+            while (heads[slot] != 0) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+    }
+
+    static final class LongTable<T, U> extends PrimitiveTable<T, U> {
+        private final ToLongFunction<? super T> keySelector;
+        private long[] keys;
+
+        LongTable(Sequence<? extends U> build, ToLongFunction<? super U> buildKey, ToLongFunction<? super T> keySelector, boolean keysOnly) {
+            super(keysOnly);
+            this.keySelector = keySelector;
+            this.keys = new long[mask + 1];
+            Iterator<? extends U> elements = build.iterator();
+            while (elements.hasNext()) {
+                U elem = elements.next();
+                append(slot(buildKey.applyAsLong(elem)), elem);
+            }
+        }
+
+        private int slot(long key) {
+            int slot = (int) Hashing.mix(key) & mask;
+            while (heads[slot] != 0) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (full()) {
+                rehash();
+                return slot(key);
+            }
+            size++;
+            keys[slot] = key;
+            return slot;
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            int[] oldHeads = heads;
+            int[] oldTails = tails;
+            allocate(oldKeys.length << 1);
+            keys = new long[mask + 1];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldHeads[i] != 0) {
+                    int slot = (int) Hashing.mix(oldKeys[i]) & mask;
+                    while (heads[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    heads[slot] = oldHeads[i];
+                    tails[slot] = oldTails[i];
+                }
+            }
+        }
+
+        @Override
+        int find(T probe) {
+            long key = keySelector.applyAsLong(probe);
+            int slot = (int) Hashing.mix(key) & mask;
+            while (heads[slot] != 0) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+    }
+}
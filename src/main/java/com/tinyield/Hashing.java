@@ -0,0 +1,84 @@
+package com.tinyield;
+
+import java.util.UUID;
+
+/**
+ * Hash mixing functions shared by the hash based operations of {@link Sek}.
+ */
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * @return the finalization mix of MurmurHash3 applied to {@param h}, which spreads every input bit
+     * over all bits of the result.
+     */
+    static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * @return the 64-bit finalization mix of MurmurHash3 applied to {@param h}.
+     */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * @return a 64-bit hash of {@param value}.
+     *
+     * Integral and floating point numbers, characters, character sequences and {@link UUID}s are hashed from their
+     * full contents, any other object is hashed from its {@code hashCode()}, which only provides 32 bits of entropy.
+     */
+    static long hash64(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return mix(((Number) value).longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return mix(Double.doubleToLongBits(((Number) value).doubleValue()));
+        }
+        if (value instanceof Character) {
+            return mix((long) (Character) value);
+        }
+        if (value instanceof UUID) {
+            UUID uuid = (UUID) value;
+            return mix(mix(uuid.getMostSignificantBits()) + uuid.getLeastSignificantBits());
+        }
+        if (value instanceof CharSequence) {
+            CharSequence chars = (CharSequence) value;
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < chars.length(); i++) {
+                h = (h ^ chars.charAt(i)) * 0x100000001b3L;
+            }
+            return mix(h);
+        }
+        return mix((long) value.hashCode() ^ 0x9e3779b97f4a7c15L);
+    }
+
+    /**
+     * @return the smallest power of two table capacity that holds {@param expected} entries
+     * without exceeding the given {@param loadFactor}.
+     */
+    static int capacityFor(int expected, float loadFactor) {
+        long required = (long) Math.ceil(Math.max(expected, 1) / (double) loadFactor);
+        if (required > (1 << 30)) {
+            throw new IllegalStateException("Too many entries: " + expected);
+        }
+        int capacity = Integer.highestOneBit((int) required);
+        return capacity < required ? capacity << 1 : capacity;
+    }
+}
@@ -0,0 +1,70 @@
+package com.tinyield;
+
+import kotlin.collections.AbstractIterator;
+
+import java.util.Comparator;
+
+/**
+ * Yields the elements of an array in sorted order by building a binary heap in linear time and then
+ * popping one element per step, so that the first {@code k} elements cost {@code O(n + k log n)}.
+ *
+ * <p>The heap holds the indexes of the elements, and equal elements are ordered by index to keep the sort stable.
+ */
+final class LazyHeapSort<T> extends AbstractIterator<T> {
+    private final Object[] elements;
+    private final Comparator<? super T> comparator;
+    private final int[] heap;
+    private int size;
+
+    LazyHeapSort(Object[] elements, Comparator<? super T> comparator) {
+        this.elements = elements;
+        this.comparator = comparator;
+        this.size = elements.length;
+        this.heap = new int[size];
+        for (int i = 0; i < size; i++) {
+            heap[i] = i;
+        }
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void computeNext() {
+        if (size == 0) {
+            done();
+            return;
+        }
+        int top = heap[0];
+        heap[0] = heap[--size];
+        siftDown(0);
+        T next = (T) elements[top];
+        elements[top] = null;
+        setNext(next);
+    }
+
+    private void siftDown(int position) {
+        int index = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && less(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!less(heap[child], index)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean less(int a, int b) {
+        int c = comparator.compare((T) elements[a], (T) elements[b]);
+        return c < 0 || c == 0 && a < b;
+    }
+}
@@ -0,0 +1,68 @@
+package com.tinyield;
+
+import kotlin.collections.AbstractIterator;
+import kotlin.random.Random;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Yields the elements of a random-access list in random order with a Fisher-Yates shuffle that runs one
+ * step per element requested, without copying nor modifying the list.
+ *
+ * The positions displaced by the swaps done so far are kept in a sparse map, so taking the first k elements
+ * costs O(k). Once a sixteenth of the list has been yielded, the remaining positions are copied to an array
+ * and shuffled in place, which is cheaper than the map for the rest of the iteration.
+ */
+final class LazyShuffle<T> extends AbstractIterator<T> {
+    private final List<T> list;
+    private final Random random;
+    private final int size;
+    private final Map<Integer, T> displaced = new HashMap<>();
+    private Object[] remaining;
+    private int index;
+
+    LazyShuffle(List<T> list, Random random) {
+        this.list = list;
+        this.random = random;
+        this.size = list.size();
+    }
+
+    private T valueAt(int position) {
+        T value = displaced.get(position);
+        return value != null || displaced.containsKey(position) ? value : list.get(position);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void computeNext() {
+        if (index == size) {
+            done();
+            return;
+        }
+        if (remaining == null && index > size >>> 4) {
+            remaining = new Object[size - index];
+            for (int position = index; position < size; position++) {
+                remaining[position - index] = valueAt(position);
+            }
+            displaced.clear();
+        }
+        int j = index + random.nextInt(size - index);
+        if (remaining != null) {
+            int offset = size - remaining.length;
+            Object value = remaining[j - offset];
+            remaining[j - offset] = remaining[index - offset];
+            index++;
+            setNext((T) value);
+            return;
+        }
+        T value = valueAt(j);
+        if (j != index) {
+            displaced.put(j, valueAt(index));
+        }
+        displaced.remove(index);
+        index++;
+        setNext(value);
+    }
+}
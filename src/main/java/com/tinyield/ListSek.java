@@ -0,0 +1,22 @@
+package com.tinyield;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A {@link Sek} over a {@link RandomAccess} list, which lets operations that benefit from
+ * knowing the size of the source, or from indexing it, avoid iterating over it.
+ */
+final class ListSek<T> implements Sek<T> {
+    final List<T> list;
+
+    ListSek(List<T> list) {
+        this.list = list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+}
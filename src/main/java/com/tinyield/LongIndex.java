@@ -0,0 +1,70 @@
+package com.tinyield;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing index that assigns consecutive entry numbers to distinct {@code long} keys,
+ * in the order the keys are first seen.
+ */
+final class LongIndex {
+    private static final float LOAD_FACTOR = 0.75f;
+    private int[] slots;
+    private int mask;
+    long[] keys = new long[16];
+    int size;
+
+    LongIndex() {
+        allocate(Hashing.capacityFor(16, LOAD_FACTOR));
+    }
+
+    private void allocate(int capacity) {
+        mask = capacity - 1;
+        slots = new int[capacity];
+    }
+
+    /**
+     * @return the entry number of {@param key}, or -1 if it is not present.
+     */
+    int indexOf(long key) {
+        for (int slot = (int) Hashing.mix(key) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (keys[entry] == key) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the entry number of {@param key}, adding it with the number {@code size} if it is not present yet.
+     */
+    int add(long key) {
+        int slot = (int) Hashing.mix(key) & mask;
+        for (; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (keys[entry] == key) {
+                return entry;
+            }
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size << 1);
+        }
+        keys[size] = key;
+        slots[slot] = ++size;
+        if (size > (mask + 1) * LOAD_FACTOR) {
+            rehash();
+        }
+        return size - 1;
+    }
+
+    private void rehash() {
+        allocate((mask + 1) << 1);
+        for (int entry = 0; entry < size; entry++) {
+            int slot = (int) Hashing.mix(keys[entry]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = entry + 1;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.tinyield;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges several sorted iterators with a tournament tree of losers, which takes a single
+ * comparison per level of the tree to replace the winner with the next element of its source.
+ *
+ * Ties are won by the source with the lowest index, so the merge is stable across sources.
+ */
+final class LoserTree<T> implements Iterator<T> {
+    private final Iterator<? extends T>[] sources;
+    private final Object[] heads;
+    private final boolean[] exhausted;
+    private final Comparator<? super T> comparator;
+    /**
+     * Index 0 holds the overall winner and indexes 1 to k - 1 the loser of the match played at that node.
+     * Leaves are the implicit indexes k to 2k - 1, one per source.
+     */
+    private final int[] tree;
+
+    @SuppressWarnings("unchecked")
+    LoserTree(List<? extends Iterator<? extends T>> sources, Comparator<? super T> comparator) {
+        int k = sources.size();
+        this.sources = (Iterator<? extends T>[]) sources.toArray(new Iterator<?>[0]);
+        this.heads = new Object[k];
+        this.exhausted = new boolean[Math.max(k, 1)];
+        this.comparator = comparator;
+        this.tree = new int[Math.max(k, 1)];
+        for (int i = 0; i < k; i++) {
+            advance(i);
+        }
+        if (k == 0) {
+            exhausted[0] = true;
+            return;
+        }
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int node = k - 1; node > 0; node--) {
+            int a = winners[2 * node];
+            int b = winners[2 * node + 1];
+            if (beats(a, b)) {
+                winners[node] = a;
+                tree[node] = b;
+            } else {
+                winners[node] = b;
+                tree[node] = a;
+            }
+        }
+        tree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    private void advance(int source) {
+        if (sources[source].hasNext()) {
+            heads[source] = sources[source].next();
+        } else {
+            heads[source] = null;
+            exhausted[source] = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean beats(int a, int b) {
+        if (exhausted[a] || exhausted[b]) {
+            return !exhausted[a] || (exhausted[b] && a < b);
+        }
+        int order = comparator.compare((T) heads[a], (T) heads[b]);
+        return order < 0 || (order == 0 && a < b);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !exhausted[tree[0]];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        int winner = tree[0];
+        if (exhausted[winner]) {
+            throw new NoSuchElementException();
+        }
+        T next = (T) heads[winner];
+        advance(winner);
+        for (int node = (winner + sources.length) / 2; node > 0; node /= 2) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+        return next;
+    }
+}
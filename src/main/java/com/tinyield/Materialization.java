@@ -0,0 +1,113 @@
+package com.tinyield;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Copies the elements of a {@link Sek} into exactly sized arrays, allocating them directly with the final size
+ * when the sequence is backed by a random-access list and otherwise growing a buffer that is trimmed at the end.
+ */
+final class Materialization {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Materialization() {
+    }
+
+    static Object[] toArray(Sek<?> source) {
+        if (source instanceof ListSek) {
+            return ((ListSek<?>) source).list.toArray();
+        }
+        Object[] buffer = new Object[INITIAL_CAPACITY];
+        int size = 0;
+        for (Iterator<?> iterator = source.iterator(); iterator.hasNext(); ) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, grow(size));
+            }
+            buffer[size++] = iterator.next();
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    static <T> T[] toArray(Sek<T> source, IntFunction<T[]> generator) {
+        if (source instanceof ListSek) {
+            List<T> list = ((ListSek<T>) source).list;
+            return list.toArray(generator.apply(list.size()));
+        }
+        Object[] elements = toArray(source);
+        T[] array = generator.apply(elements.length);
+        System.arraycopy(elements, 0, array, 0, elements.length);
+        return array;
+    }
+
+    static <T> int[] toIntArray(Sek<T> source, ToIntFunction<? super T> selector) {
+        if (source instanceof ListSek) {
+            List<T> list = ((ListSek<T>) source).list;
+            int[] values = new int[list.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = selector.applyAsInt(list.get(i));
+            }
+            return values;
+        }
+        int[] buffer = new int[INITIAL_CAPACITY];
+        int size = 0;
+        for (T elem : source.asIterable()) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, grow(size));
+            }
+            buffer[size++] = selector.applyAsInt(elem);
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    static <T> long[] toLongArray(Sek<T> source, ToLongFunction<? super T> selector) {
+        if (source instanceof ListSek) {
+            List<T> list = ((ListSek<T>) source).list;
+            long[] values = new long[list.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = selector.applyAsLong(list.get(i));
+            }
+            return values;
+        }
+        long[] buffer = new long[INITIAL_CAPACITY];
+        int size = 0;
+        for (T elem : source.asIterable()) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, grow(size));
+            }
+            buffer[size++] = selector.applyAsLong(elem);
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    static <T> double[] toDoubleArray(Sek<T> source, ToDoubleFunction<? super T> selector) {
+        if (source instanceof ListSek) {
+            List<T> list = ((ListSek<T>) source).list;
+            double[] values = new double[list.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = selector.applyAsDouble(list.get(i));
+            }
+            return values;
+        }
+        double[] buffer = new double[INITIAL_CAPACITY];
+        int size = 0;
+        for (T elem : source.asIterable()) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, grow(size));
+            }
+            buffer[size++] = selector.applyAsDouble(elem);
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    private static int grow(int size) {
+        if (size == Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Too many elements to fit in an array.");
+        }
+        return (int) Math.min((long) size << 1, Integer.MAX_VALUE - 8);
+    }
+}
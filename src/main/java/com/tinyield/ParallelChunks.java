@@ -0,0 +1,106 @@
+package com.tinyield;
+
+import kotlin.collections.AbstractIterator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Runs a sub-pipeline over consecutive chunks of a sequence on an {@link Executor}, yielding the results
+ * of each chunk in the order of the chunks.
+ *
+ * <p>Chunks are read from the source in the consuming thread, which is the only one iterating it, and at most
+ * {@code maxInFlight} chunks are submitted ahead of the one being yielded, which bounds the memory held by
+ * pending results when the consumer is slower than the workers.
+ */
+final class ParallelChunks<T, R> extends AbstractIterator<R> {
+    private final Iterator<T> source;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final Executor executor;
+    private final Function<? super Sek<T>, ? extends Sek<R>> stage;
+    private final Deque<CompletableFuture<List<R>>> inFlight = new ArrayDeque<>();
+    private Iterator<R> current = Collections.emptyIterator();
+
+    private ParallelChunks(
+            Iterator<T> source,
+            int chunkSize,
+            int maxInFlight,
+            Executor executor,
+            Function<? super Sek<T>, ? extends Sek<R>> stage) {
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+        this.executor = executor;
+        this.stage = stage;
+    }
+
+    static <T, R> Sek<R> of(
+            Sek<T> source,
+            int chunkSize,
+            int maxInFlight,
+            Executor executor,
+            Function<? super Sek<T>, ? extends Sek<R>> stage) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size " + chunkSize + " must be greater than zero.");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Maximum in flight chunks " + maxInFlight + " must be greater than zero.");
+        }
+        return () -> new ParallelChunks<>(source.iterator(), chunkSize, maxInFlight, executor, stage);
+    }
+
+    @Override
+    protected void computeNext() {
+        while (!current.hasNext()) {
+            submit();
+            CompletableFuture<List<R>> next = inFlight.poll();
+            if (next == null) {
+                done();
+                return;
+            }
+            current = join(next).iterator();
+        }
+        setNext(current.next());
+    }
+
+    /**
+     * Reads and submits chunks until {@code maxInFlight} of them are pending or the source is exhausted.
+     */
+    private void submit() {
+        while (inFlight.size() < maxInFlight && source.hasNext()) {
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && source.hasNext()) {
+                chunk.add(source.next());
+            }
+            inFlight.add(CompletableFuture.supplyAsync(() -> stage.apply(new ListSek<>(chunk)).toList(), executor));
+        }
+    }
+
+    private List<R> join(CompletableFuture<List<R>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            for (CompletableFuture<List<R>> pending : inFlight) {
+                pending.cancel(false);
+            }
+            inFlight.clear();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.tinyield;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Group-and-fold over the fork/join common pool.
+ *
+ * <p>{@code fold} splits the source into one contiguous range per worker of the pool, each one folded into its own
+ * map, and merges the maps in encounter order, so that the result has the same keys order and the same per key
+ * order of elements as a sequential grouping, whatever the combiner.
+ *
+ * <p>{@code eachCount} only needs a commutative combiner, so one long-lived task per worker drains a {@link SharedSek}
+ * over the source instead, claiming batches of elements as it goes, and the smaller map of each pair is merged into
+ * the larger one.
+ */
+final class ParallelGrouping {
+    static final int BATCH_SIZE = 4096;
+
+    private ParallelGrouping() {
+    }
+
+    static <T, K, R> Map<K, R> fold(
+            Sek<T> source,
+            Function<? super T, ? extends K> keySelector,
+            Supplier<? extends R> initialValue,
+            BiFunction<? super R, ? super T, ? extends R> operation,
+            BinaryOperator<R> combiner) {
+        List<T> list = source instanceof ListSek ? ((ListSek<T>) source).list : source.toList();
+        int size = list.size();
+        if (size == 0) {
+            return new LinkedHashMap<>();
+        }
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int ranges = (int) Math.min(pool.getParallelism(), (size + (long) BATCH_SIZE - 1) / BATCH_SIZE);
+        List<ForkJoinTask<Map<K, R>>> partials = new ArrayList<>();
+        for (int i = 0; i < ranges; i++) {
+            List<T> range = list.subList((int) ((long) size * i / ranges), (int) ((long) size * (i + 1) / ranges));
+            partials.add(pool.submit(() -> foldAll(range.iterator(), new LinkedHashMap<>(), keySelector, initialValue, operation)));
+        }
+        return pool.invoke(new Merge<>(partials, 0, partials.size(), combiner, false));
+    }
+
+    static <T, K> Map<K, Long> eachCount(Sek<T> source, Function<? super T, ? extends K> keySelector) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        Sek<T> shared = source.shared(BATCH_SIZE);
+        List<ForkJoinTask<Map<K, long[]>>> partials = new ArrayList<>();
+        for (int i = 0; i < pool.getParallelism(); i++) {
+            partials.add(pool.submit(() -> foldAll(shared.iterator(), new HashMap<>(), keySelector, () -> new long[1], (count, elem) -> {
+                count[0]++;
+                return count;
+            })));
+        }
+        Map<K, long[]> counts = pool.invoke(new Merge<>(partials, 0, partials.size(), (left, right) -> {
+            left[0] += right[0];
+            return left;
+        }, true));
+        Map<K, Long> result = new HashMap<>(Hashing.capacityFor(counts.size(), 0.75f));
+        counts.forEach((key, count) -> result.put(key, count[0]));
+        return result;
+    }
+
+    private static <T, K, R> Map<K, R> foldAll(
+            Iterator<T> elements,
+            Map<K, R> map,
+            Function<? super T, ? extends K> keySelector,
+            Supplier<? extends R> initialValue,
+            BiFunction<? super R, ? super T, ? extends R> operation) {
+        while (elements.hasNext()) {
+            T elem = elements.next();
+            K key = keySelector.apply(elem);
+            R accumulator = map.get(key);
+            if (accumulator == null && !map.containsKey(key)) {
+                accumulator = initialValue.get();
+            }
+            map.put(key, operation.apply(accumulator, elem));
+        }
+        return map;
+    }
+
+    /**
+     * Merges the partial maps of the range [{@code from}, {@code to}) of workers. The right map of each pair is
+     * merged into the left one, the accumulators of the left map being the first argument of the combiner, unless
+     * the combiner is {@code commutative}, in which case the smaller map is merged into the larger one.
+     */
+    static final class Merge<K, R> extends RecursiveTask<Map<K, R>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<ForkJoinTask<Map<K, R>>> partials;
+        private final int from;
+        private final int to;
+        private final BinaryOperator<R> combiner;
+        private final boolean commutative;
+
+        Merge(List<ForkJoinTask<Map<K, R>>> partials, int from, int to, BinaryOperator<R> combiner, boolean commutative) {
+            this.partials = partials;
+            this.from = from;
+            this.to = to;
+            this.combiner = combiner;
+            this.commutative = commutative;
+        }
+
+        @Override
+        protected Map<K, R> compute() {
+            if (to - from == 1) {
+                return partials.get(from).join();
+            }
+            int middle = (from + to) >>> 1;
+            Merge<K, R> left = new Merge<>(partials, from, middle, combiner, commutative);
+            left.fork();
+            Map<K, R> right = new Merge<>(partials, middle, to, combiner, commutative).compute();
+            Map<K, R> merged = left.join();
+            if (commutative && merged.size() < right.size()) {
+                Map<K, R> smaller = merged;
+                merged = right;
+                right = smaller;
+            }
+            for (Map.Entry<K, R> entry : right.entrySet()) {
+                K key = entry.getKey();
+                R accumulator = merged.get(key);
+                if (accumulator == null && !merged.containsKey(key)) {
+                    merged.put(key, entry.getValue());
+                } else {
+                    merged.put(key, combiner.apply(accumulator, entry.getValue()));
+                }
+            }
+            return merged;
+        }
+    }
+}
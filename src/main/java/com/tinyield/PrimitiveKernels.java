@@ -0,0 +1,125 @@
+package com.tinyield;
+
+/**
+ * Reductions over the first {@code length} values of primitive arrays, written for the JIT to unroll and vectorize.
+ *
+ * <p>Each loop keeps four independent accumulators, so that consecutive iterations do not wait on each other,
+ * and reads the array with plain counted indexes, which lets the JIT drop bounds checks and use SIMD instructions
+ * where the reduction allows it.
+ */
+final class PrimitiveKernels {
+    private static final int LANES = 4;
+
+    private PrimitiveKernels() {
+    }
+
+    /**
+     * @return the sum of the values, overflowing as {@code int} additions in order would.
+     */
+    static int sum(int[] values, int length) {
+        int s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (int end = length - LANES + 1; i < end; i += LANES) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += values[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * @return the sum of the values, overflowing as {@code long} additions in order would.
+     */
+    static long sum(long[] values, int length) {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (int end = length - LANES + 1; i < end; i += LANES) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += values[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * @return the sum of the values, which may differ in the last bits from the sum of the values in order,
+     * since additions are grouped differently.
+     */
+    static double sum(double[] values, int length) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (int end = length - LANES + 1; i < end; i += LANES) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += values[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * @return the smallest of the values as by {@link Math#min(double, double)}, or {@code +Infinity} if there are none.
+     */
+    static double min(double[] values, int length) {
+        double m0 = Double.POSITIVE_INFINITY, m1 = m0, m2 = m0, m3 = m0;
+        int i = 0;
+        for (int end = length - LANES + 1; i < end; i += LANES) {
+            m0 = Math.min(m0, values[i]);
+            m1 = Math.min(m1, values[i + 1]);
+            m2 = Math.min(m2, values[i + 2]);
+            m3 = Math.min(m3, values[i + 3]);
+        }
+        for (; i < length; i++) {
+            m0 = Math.min(m0, values[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    /**
+     * @return the largest of the values as by {@link Math#max(double, double)}, or {@code -Infinity} if there are none.
+     */
+    static double max(double[] values, int length) {
+        double m0 = Double.NEGATIVE_INFINITY, m1 = m0, m2 = m0, m3 = m0;
+        int i = 0;
+        for (int end = length - LANES + 1; i < end; i += LANES) {
+            m0 = Math.max(m0, values[i]);
+            m1 = Math.max(m1, values[i + 1]);
+            m2 = Math.max(m2, values[i + 2]);
+            m3 = Math.max(m3, values[i + 3]);
+        }
+        for (; i < length; i++) {
+            m0 = Math.max(m0, values[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    /**
+     * Keeps the entries of {@param indexes} whose value lies in the closed range from {@param from} to {@param to},
+     * compacting them in order to the start of the array. {@code NaN} values lie in no range.
+     *
+     * <p>The loop writes every index and only advances the output position when the comparison holds, so it
+     * has no branch that depends on the data.
+     *
+     * @return the number of entries kept.
+     */
+    static int selectBetween(double[] values, int length, double from, double to, int[] indexes) {
+        int selected = 0;
+        for (int i = 0; i < length; i++) {
+            double value = values[i];
+            indexes[selected] = indexes[i];
+            selected += (value >= from & value <= to) ? 1 : 0;
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tinyield;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Stable least significant digit radix sort of elements by primitive keys, which are extracted once per element.
+ *
+ * <p>Keys are mapped to unsigned 64-bit values with the same order, and sorted one byte at a time together with
+ * the indexes of their elements. Passes over bytes that are equal for all keys, like the upper bytes of int keys
+ * or of small timestamps, are skipped.
+ */
+final class RadixSort {
+    private static final int RADIX = 256;
+    private static final int PASSES = Long.BYTES;
+
+    private RadixSort() {
+    }
+
+    static <T> List<T> sortedByInt(Sek<T> source, ToIntFunction<? super T> selector) {
+        Object[] elements = Materialization.toArray(source);
+        long[] keys = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = (selector.applyAsInt(elem(elements, i)) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        }
+        return permute(elements, order(keys));
+    }
+
+    static <T> List<T> sortedByLong(Sek<T> source, ToLongFunction<? super T> selector) {
+        Object[] elements = Materialization.toArray(source);
+        long[] keys = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = selector.applyAsLong(elem(elements, i)) ^ Long.MIN_VALUE;
+        }
+        return permute(elements, order(keys));
+    }
+
+    /**
+     * Doubles are ordered as by {@link Double#compare}: {@code -0.0} comes before {@code 0.0} and `NaN` comes last.
+     */
+    static <T> List<T> sortedByDouble(Sek<T> source, ToDoubleFunction<? super T> selector) {
+        Object[] elements = Materialization.toArray(source);
+        long[] keys = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            long bits = Double.doubleToLongBits(selector.applyAsDouble(elem(elements, i)));
+            keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+        return permute(elements, order(keys));
+    }
+
+    /**
+     * @return the indexes of {@param keys} in ascending unsigned order of the keys, equal keys keeping their relative order.
+     * {@param keys} is reordered in the process.
+     */
+    static int[] order(long[] keys) {
+        int n = keys.length;
+        int[] counts = new int[PASSES * RADIX];
+        for (long key : keys) {
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass * RADIX + (int) ((key >>> (pass * 8)) & 0xFF)]++;
+            }
+        }
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = i;
+        }
+        long[] keysBuffer = new long[n];
+        int[] indexesBuffer = new int[n];
+        for (int pass = 0; pass < PASSES; pass++) {
+            int base = pass * RADIX;
+            if (n == 0 || counts[base + (int) ((keys[0] >>> (pass * 8)) & 0xFF)] == n) {
+                continue;
+            }
+            int offset = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = counts[base + digit];
+                counts[base + digit] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < n; i++) {
+                long key = keys[i];
+                int target = counts[base + (int) ((key >>> (pass * 8)) & 0xFF)]++;
+                keysBuffer[target] = key;
+                indexesBuffer[target] = indexes[i];
+            }
+            long[] swapKeys = keys;
+            keys = keysBuffer;
+            keysBuffer = swapKeys;
+            int[] swapIndexes = indexes;
+            indexes = indexesBuffer;
+            indexesBuffer = swapIndexes;
+        }
+        return indexes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T elem(Object[] elements, int index) {
+        return (T) elements[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> permute(Object[] elements, int[] order) {
+        Object[] sorted = new Object[elements.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = elements[order[i]];
+        }
+        return (List<T>) Arrays.asList(sorted);
+    }
+}
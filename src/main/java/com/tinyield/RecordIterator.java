@@ -0,0 +1,67 @@
+package com.tinyield;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * Iterates over the fixed-width records of one or more buffers, repositioning a single
+ * {@link SekFlyweight} over each record.
+ */
+final class RecordIterator<F extends SekFlyweight<F>> implements Iterator<F> {
+    private final List<ByteBuffer> regions;
+    private final int width;
+    private final F flyweight;
+    private int region;
+    private ByteBuffer current;
+    private int offset;
+    private int limit;
+
+    RecordIterator(List<ByteBuffer> regions, int width, Supplier<? extends F> factory) {
+        this.regions = regions;
+        this.width = width;
+        this.flyweight = SekFlyweight.wrap(factory, null, 0, width);
+        advanceRegion();
+    }
+
+    static void checkRecordWidth(int recordWidth, long size) {
+        if (recordWidth <= 0) {
+            throw new IllegalArgumentException("Record width must be positive, but was " + recordWidth);
+        }
+        if (size % recordWidth != 0) {
+            throw new IllegalArgumentException("Size " + size + " is not a multiple of the record width " + recordWidth);
+        }
+    }
+
+    private void advanceRegion() {
+        while (region < regions.size()) {
+            current = regions.get(region++);
+            offset = current.position();
+            limit = current.limit();
+            if (offset < limit) {
+                return;
+            }
+        }
+        current = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return current != null;
+    }
+
+    @Override
+    public F next() {
+        if (current == null) {
+            throw new NoSuchElementException();
+        }
+        F next = flyweight.moveTo(current, offset);
+        offset += width;
+        if (offset >= limit) {
+            advanceRegion();
+        }
+        return next;
+    }
+}
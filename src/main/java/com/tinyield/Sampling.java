@@ -0,0 +1,143 @@
+package com.tinyield;
+
+import kotlin.collections.AbstractIterator;
+import kotlin.random.Random;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Random sampling algorithms that skip over the elements that are not selected, jumping over them
+ * by index when the source is random-access.
+ */
+final class Sampling {
+
+    private Sampling() {
+    }
+
+    static int requireSize(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Requested sample size " + k + " is less than zero.");
+        }
+        return k;
+    }
+
+    static double requireProbability(double p) {
+        if (!(p >= 0.0 && p <= 1.0)) {
+            throw new IllegalArgumentException("Probability " + p + " is not in the interval [0, 1].");
+        }
+        return p;
+    }
+
+    /**
+     * @return a uniformly distributed value in the interval (0, 1], which is safe to pass to {@link Math#log}.
+     */
+    private static double open(Random random) {
+        return 1.0 - random.nextDouble();
+    }
+
+    /**
+     * @return the number of elements to skip before the next one selected with probability p,
+     * where {@param logQ} is the logarithm of 1 - p, following the geometric distribution of the gaps
+     * of a Bernoulli process.
+     */
+    private static long gap(double logQ, Random random) {
+        double gap = Math.floor(Math.log(open(random)) / logQ);
+        return gap >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) gap;
+    }
+
+    /**
+     * Selects {@param k} elements of {@param source} uniformly at random using Algorithm L,
+     * which draws the distance to the next replacement in the reservoir instead of a random number per element.
+     */
+    static <T> List<T> reservoir(Sek<T> source, int k, Random random) {
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+        if (source instanceof ListSek) {
+            List<T> list = ((ListSek<T>) source).list;
+            int size = list.size();
+            List<T> reservoir = new ArrayList<>(list.subList(0, Math.min(k, size)));
+            long index = k - 1L;
+            double w = Math.exp(Math.log(open(random)) / k);
+            while (true) {
+                index += skip(w, random) + 1;
+                if (index >= size || index < 0) {
+                    return reservoir;
+                }
+                reservoir.set(random.nextInt(k), list.get((int) index));
+                w *= Math.exp(Math.log(open(random)) / k);
+            }
+        }
+        List<T> reservoir = new ArrayList<>();
+        Iterator<T> elements = source.iterator();
+        while (reservoir.size() < k && elements.hasNext()) {
+            reservoir.add(elements.next());
+        }
+        double w = Math.exp(Math.log(open(random)) / k);
+        while (elements.hasNext()) {
+            for (long skip = skip(w, random); skip > 0; skip--) {
+                if (!elements.hasNext()) {
+                    return reservoir;
+                }
+                elements.next();
+            }
+            if (!elements.hasNext()) {
+                return reservoir;
+            }
+            reservoir.set(random.nextInt(k), elements.next());
+            w *= Math.exp(Math.log(open(random)) / k);
+        }
+        return reservoir;
+    }
+
+    private static long skip(double w, Random random) {
+        return w >= 1.0 ? 0 : gap(Math.log(1.0 - w), random);
+    }
+
+    /**
+     * Selects each element of {@param source} independently with probability {@param p}.
+     */
+    static <T> Iterator<T> bernoulli(Sek<T> source, double p, Random random) {
+        if (p == 0.0) {
+            return Collections.emptyIterator();
+        }
+        if (p == 1.0) {
+            return source.iterator();
+        }
+        double logQ = Math.log(1.0 - p);
+        if (source instanceof ListSek) {
+            List<T> list = ((ListSek<T>) source).list;
+            return new AbstractIterator<T>() {
+                private long index = gap(logQ, random);
+
+                @Override
+                protected void computeNext() {
+                    if (index >= list.size()) {
+                        done();
+                        return;
+                    }
+                    setNext(list.get((int) index));
+                    long skip = gap(logQ, random);
+                    index = skip >= list.size() ? list.size() : index + skip + 1;
+                }
+            };
+        }
+        Iterator<T> elements = source.iterator();
+        return new AbstractIterator<T>() {
+            @Override
+            protected void computeNext() {
+                for (long skip = gap(logQ, random); skip > 0 && elements.hasNext(); skip--) {
+                    elements.next();
+                }
+                if (elements.hasNext()) {
+                    setNext(elements.next());
+                } else {
+                    done();
+                }
+            }
+        };
+    }
+}
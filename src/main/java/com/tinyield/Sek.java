@@ -8,13 +8,30 @@ import kotlin.random.Random;
 import kotlin.sequences.Sequence;
 import kotlin.sequences.SequencesKt;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
 import java.util.HashSet;
+import java.util.IntSummaryStatistics;
+import java.util.Iterator;
 import java.util.List;
+import java.util.LongSummaryStatistics;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.Spliterators;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -26,11 +43,12 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static kotlin.sequences.SequencesKt.generateSequence;
-import static kotlin.sequences.SequencesKt.sequenceOf;
 
 /**
  * Represents a bi-function that also accepts an int index.
@@ -57,6 +75,32 @@ interface IndexedBiFunction<T,U,R> {
     R apply(int index, T t, U u);
 }
 
+/**
+ * Represents a function that accepts three arguments and produces a result.
+ *
+ * <p>This is a <a href="package-summary.html">functional interface</a>
+ * whose functional method is {@link #apply(Object, Object, Object)}.
+ *
+ * @param <T> the type of the first argument to the function
+ * @param <U> the type of the second argument to the function
+ * @param <V> the type of the third argument to the function
+ * @param <R> the type of the result of the function
+ */
+
+@FunctionalInterface
+interface TriFunction<T,U,V,R> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t the first function argument
+     * @param u the second function argument
+     * @param v the third function argument
+     * @return the function result
+     */
+    R apply(T t, U u, V v);
+}
+
 @SuppressWarnings("squid:S3252")
 public interface Sek<T> extends Sequence<T> {
 
@@ -67,8 +111,9 @@ public interface Sek<T> extends Sequence<T> {
      * @return a Sek instance that will yield the provided {@param elements}
      */
     @SafeVarargs
+    @SuppressWarnings("varargs") // elements is only read, through the list view of the returned sequence
     static <T> Sek<T> of(T... elements) {
-        return sequenceOf(elements)::iterator;
+        return new ListSek<>(Arrays.asList(elements));
     }
 
     /**
@@ -78,9 +123,67 @@ public interface Sek<T> extends Sequence<T> {
      * @return a Sek instance that will yield the provided {@param elements}
      */
     static <T> Sek<T> of(Iterable<T> elements) {
+        if (elements instanceof List && elements instanceof RandomAccess) {
+            return new ListSek<>((List<T>) elements);
+        }
         return elements::iterator;
     }
 
+    /**
+     * Creates a sequence over the fixed-width binary records held by the {@param source} buffer,
+     * from its current position up to its limit.
+     *
+     * @param source      buffer holding the records
+     * @param recordWidth number of bytes of each record
+     * @param factory     Supplier of the flyweight used to view each record
+     * @return a Sek instance that will yield a single flyweight per iteration, repositioned over each record in turn
+     * <p>
+     * Flyweights are only valid until the iteration advances, use {@link SekFlyweight#copy()} to keep a record.
+     * The fields of each record are read with the byte order of {@param source}.
+     *
+     * @throws IllegalArgumentException if {@param recordWidth} is not positive or the remaining bytes of
+     * {@param source} are not a multiple of {@param recordWidth}.
+     */
+    static <F extends SekFlyweight<F>> Sek<F> ofRecords(ByteBuffer source, int recordWidth, Supplier<? extends F> factory) {
+        RecordIterator.checkRecordWidth(recordWidth, source.remaining());
+        List<ByteBuffer> regions = Collections.singletonList(source.slice().order(source.order()));
+        return () -> new RecordIterator<>(regions, recordWidth, factory);
+    }
+
+    /**
+     * Creates a sequence over the fixed-width binary records of the given {@param file}, which is memory-mapped
+     * each time an iterator is requested.
+     *
+     * @param file        file holding the records
+     * @param recordWidth number of bytes of each record
+     * @param order       byte order of the fields of each record
+     * @param factory     Supplier of the flyweight used to view each record
+     * @return a Sek instance that will yield a single flyweight per iteration, repositioned over each record in turn
+     * <p>
+     * Files larger than 2GB are mapped in several regions, each holding a whole number of records.
+     * Flyweights are only valid until the iteration advances, use {@link SekFlyweight#copy()} to keep a record.
+     *
+     * @throws java.io.UncheckedIOException if the file cannot be mapped.
+     * @throws IllegalArgumentException if {@param recordWidth} is not positive or the size of {@param file}
+     * is not a multiple of {@param recordWidth}.
+     */
+    static <F extends SekFlyweight<F>> Sek<F> ofRecords(Path file, int recordWidth, ByteOrder order, Supplier<? extends F> factory) {
+        return () -> {
+            List<ByteBuffer> regions = new ArrayList<>();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                RecordIterator.checkRecordWidth(recordWidth, size);
+                long regionSize = (long) (Integer.MAX_VALUE / recordWidth) * recordWidth;
+                for (long position = 0; position < size; position += regionSize) {
+                    regions.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, size - position)).order(order));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new RecordIterator<>(regions, recordWidth, factory);
+        };
+    }
+
     /**
      * Returns a sequence which invokes the function to calculate the next value on each iteration until the function returns `null`.
      *
@@ -102,6 +205,136 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.<T>emptySequence()::iterator;
     }
 
+    /**
+     * Creates a sequence that lazily merges the given {@param sources}, each of them sorted according to
+     * {@param comparator}, into a single sorted sequence.
+     *
+     * @param comparator Comparator by which every source is sorted
+     * @param sources    sorted sequences to merge
+     * @return a Sek instance that will yield all elements of {@param sources} sorted according to {@param comparator}
+     * <p>
+     * The merge is _stable_: equal elements keep their order within each source and elements of earlier sources
+     * come before equal elements of later ones. Each element takes O(log k) comparisons, for k sources.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // sources is only read, through a list view that does not escape
+    static <T> Sek<T> mergeSorted(Comparator<? super T> comparator, Sequence<? extends T>... sources) {
+        return mergeSorted(comparator, Arrays.asList(sources));
+    }
+
+    /**
+     * Creates a sequence that lazily merges the given {@param sources}, each of them sorted according to
+     * {@param comparator}, into a single sorted sequence.
+     *
+     * @param comparator Comparator by which every source is sorted
+     * @param sources    sorted sequences to merge
+     * @return a Sek instance that will yield all elements of {@param sources} sorted according to {@param comparator}
+     * <p>
+     * The merge is _stable_: equal elements keep their order within each source and elements of earlier sources
+     * come before equal elements of later ones. Each element takes O(log k) comparisons, for k sources.
+     */
+    static <T> Sek<T> mergeSorted(Comparator<? super T> comparator, Collection<? extends Sequence<? extends T>> sources) {
+        return () -> {
+            List<Iterator<? extends T>> iterators = new ArrayList<>(sources.size());
+            for (Sequence<? extends T> source : sources) {
+                iterators.add(source.iterator());
+            }
+            return new LoserTree<>(iterators, comparator);
+        };
+    }
+
+    /**
+     * @return a sequence of all elements of the given {@param sources}, one source after the other.
+     *
+     * The sources are iterated flatly, one at a time and without nesting their iterators, and sources backed by
+     * lists that cannot be structurally modified are read by index. Hence, the cost per element does not depend on the number of sources, and
+     * concatenating thousands of them cannot overflow the stack. Appending further sources with {@code plus}
+     * extends the same concatenation instead of wrapping it.
+     */
+    static <T> Sek<T> concat(Collection<? extends Sequence<? extends T>> sources) {
+        return ConcatSek.concat(sources);
+    }
+
+    /**
+     * Creates a sequence that decodes the elements encoded in the {@param source} buffer with the given {@param codec},
+     * from its current position up to its limit.
+     *
+     * @param source buffer holding the encoded elements, such as one filled by {@code encodeTo}
+     * @param codec  codec used to decode each element
+     * @return a Sek instance that will yield the elements decoded from {@param source}
+     * <p>
+     * Each iteration reads from an independent view of {@param source}, so neither its position nor the position
+     * of other iterations are affected.
+     *
+     * @throws IllegalArgumentException if {@param codec} is fixed-width with a width of zero, since decoding would
+     *                                  never advance through {@param source}.
+     */
+    static <T> Sek<T> decode(ByteBuffer source, SekCodec<? extends T> codec) {
+        if (codec.isFixedWidth() && codec.width() == 0) {
+            throw new IllegalArgumentException("Cannot decode elements of a codec of width 0.");
+        }
+        return () -> new Iterator<T>() {
+            private final ByteBuffer view = source.duplicate().order(source.order());
+
+            @Override
+            public boolean hasNext() {
+                return view.hasRemaining();
+            }
+
+            @Override
+            public T next() {
+                if (!view.hasRemaining()) {
+                    throw new NoSuchElementException();
+                }
+                return codec.read(view);
+            }
+        };
+    }
+
+    /**
+     * Feeds every element of this sequence to each of the given {@param collectors} in a single pass.
+     *
+     * @return the results of the given {@param collectors}, in the same order.
+     * <p>
+     * Combine it with collectors such as {@link java.util.stream.Collectors#summarizingInt} or
+     * {@link java.util.stream.Collectors#groupingBy} to compute several aggregates while iterating
+     * the upstream pipeline only once.
+     * <p>
+     * The operation is _terminal_.
+     */
+    default List<Object> aggregate(Collection<? extends Collector<? super T, ?, ?>> collectors) {
+        Aggregation<T> aggregation = new Aggregation<>(collectors);
+        forEach(aggregation::accept);
+        return aggregation.results();
+    }
+
+    /**
+     * Feeds every element of this sequence to both {@param first} and {@param second} collectors in a single pass.
+     *
+     * @return the result of applying {@param merger} to the results of both collectors.
+     * <p>
+     * The operation is _terminal_.
+     */
+    @SuppressWarnings("unchecked")
+    default <A, B, R> R aggregate(Collector<? super T, ?, A> first, Collector<? super T, ?, B> second, BiFunction<? super A, ? super B, ? extends R> merger) {
+        List<Object> results = aggregate(Arrays.asList(first, second));
+        return merger.apply((A) results.get(0), (B) results.get(1));
+    }
+
+    /**
+     * Feeds every element of this sequence to the {@param first}, {@param second} and {@param third} collectors
+     * in a single pass.
+     *
+     * @return the result of applying {@param merger} to the results of the three collectors.
+     * <p>
+     * The operation is _terminal_.
+     */
+    @SuppressWarnings("unchecked")
+    default <A, B, C, R> R aggregate(Collector<? super T, ?, A> first, Collector<? super T, ?, B> second, Collector<? super T, ?, C> third, TriFunction<? super A, ? super B, ? super C, ? extends R> merger) {
+        List<Object> results = aggregate(Arrays.asList(first, second, third));
+        return merger.apply((A) results.get(0), (B) results.get(1), (C) results.get(2));
+    }
+
     /**
      * @param predicate used to test elements of this {@code Sek}
      * @return true if all elements match the given {@param predicate}, false otherwise
@@ -112,6 +345,40 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.all(this, predicate::test);
     }
 
+    /**
+     * @return a sequence containing the elements of this sequence whose key, returned by {@param keySelector},
+     * is not returned by {@param otherKeySelector} for any element of the {@param other} sequence.
+     *
+     * The {@param other} sequence is the _build_ side: it is iterated once per iteration of the resulting sequence
+     * to fill a hash table, which should therefore be built from the smaller of the two sequences.
+     * This sequence is the _probe_ side and is streamed lazily through that table.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default <U, K> Sek<T> antiJoin(Sequence<? extends U> other, Function<? super T, ? extends K> keySelector, Function<? super U, ? extends K> otherKeySelector) {
+        return () -> HashJoin.filter(iterator(), new HashJoin.ObjectTable<>(other, otherKeySelector, keySelector, true), false);
+    }
+
+    /**
+     * @return a sequence containing the elements of this sequence whose int key is not a key of any element of
+     * the {@param other} sequence, avoiding boxing of keys.
+     *
+     * see {@code antiJoin}
+     */
+    default <U> Sek<T> antiJoinInt(Sequence<? extends U> other, ToIntFunction<? super T> keySelector, ToIntFunction<? super U> otherKeySelector) {
+        return () -> HashJoin.filter(iterator(), new HashJoin.IntTable<>(other, otherKeySelector, keySelector, true), false);
+    }
+
+    /**
+     * @return a sequence containing the elements of this sequence whose long key is not a key of any element of
+     * the {@param other} sequence, avoiding boxing of keys.
+     *
+     * see {@code antiJoin}
+     */
+    default <U> Sek<T> antiJoinLong(Sequence<? extends U> other, ToLongFunction<? super T> keySelector, ToLongFunction<? super U> otherKeySelector) {
+        return () -> HashJoin.filter(iterator(), new HashJoin.LongTable<>(other, otherKeySelector, keySelector, true), false);
+    }
+
     /**
      * @return true if sequence has at least one element, false otherwise
      * <p>
@@ -132,6 +399,65 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.any(this, predicate::test);
     }
 
+    /**
+     * @return an estimate of the number of distinct elements of this sequence, computed with a HyperLogLog sketch
+     * of the given {@param precision}.
+     *
+     * Unlike {@code distinct().count()}, the memory used is fixed at 2^{@param precision} bytes, regardless of the number
+     * of distinct elements, and the relative standard error of the estimate is about {@code 1.04 / sqrt(2^precision)}.
+     *
+     * Numbers, characters, strings and {@link java.util.UUID}s are hashed from their full contents into 64 bits, other
+     * elements from their 32-bit {@code hashCode()}, whose collisions bias the estimate beyond about a hundred million
+     * distinct elements: such elements should rather be counted with a 64-bit hash function, see {@code approxCountDistinctByLong}.
+     *
+     * @throws IllegalArgumentException if {@param precision} is not between 4 and 18.
+     *
+     * The operation is _terminal_.
+     */
+    default long approxCountDistinct(int precision) {
+        SekHyperLogLog sketch = new SekHyperLogLog(precision);
+        forEach(sketch::add);
+        return sketch.estimate();
+    }
+
+    /**
+     * @return an estimate of the number of distinct keys returned by {@param selector} for the elements of this sequence,
+     * computed with a HyperLogLog sketch of the given {@param precision}.
+     *
+     * see {@code approxCountDistinct}
+     */
+    default <K> long approxCountDistinctBy(Function<? super T, ? extends K> selector, int precision) {
+        SekHyperLogLog sketch = new SekHyperLogLog(precision);
+        forEach(elem -> sketch.add(selector.apply(elem)));
+        return sketch.estimate();
+    }
+
+    /**
+     * @return an estimate of the number of distinct int keys returned by {@param selector} for the elements of this
+     * sequence, computed with a HyperLogLog sketch of the given {@param precision} and without boxing keys.
+     *
+     * see {@code approxCountDistinct}
+     */
+    default long approxCountDistinctByInt(ToIntFunction<? super T> selector, int precision) {
+        SekHyperLogLog sketch = new SekHyperLogLog(precision);
+        forEach(elem -> sketch.addInt(selector.applyAsInt(elem)));
+        return sketch.estimate();
+    }
+
+    /**
+     * @return an estimate of the number of distinct long keys returned by {@param selector} for the elements of this
+     * sequence, computed with a HyperLogLog sketch of the given {@param precision} and without boxing keys.
+     *
+     * {@param selector} can also be a 64-bit hash function of the elements, such as one derived from their contents.
+     *
+     * see {@code approxCountDistinct}
+     */
+    default long approxCountDistinctByLong(ToLongFunction<? super T> selector, int precision) {
+        SekHyperLogLog sketch = new SekHyperLogLog(precision);
+        forEach(elem -> sketch.addLong(selector.applyAsLong(elem)));
+        return sketch.estimate();
+    }
+
     /**
      * Creates an {@link Iterable} instance that wraps the original {@code Sek} returning its elements when being iterated.
      * @return an {@link Iterable} wrapping the original {@code Sek}.
@@ -269,6 +595,25 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.associateWithTo(this, destination, valueSelector::apply);
     }
 
+    /**
+     * @return a pipeline over the elements of this sequence that runs each stage over blocks of
+     * {@link SekBlocks#DEFAULT_BLOCK_SIZE} elements at a time, see {@code blocks(int)}.
+     */
+    default SekBlocks<T> blocks() {
+        return new SekBlocks<>(this, SekBlocks.DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Switches to block execution: the elements are read {@param blockSize} at a time, and each {@code filter} or
+     * {@code map} of the returned pipeline processes a whole block in a loop before handing it to the next one,
+     * which pays off for long pipelines of cheap operations over large sequences.
+     *
+     * @throws IllegalArgumentException if {@param blockSize} is not positive.
+     */
+    default SekBlocks<T> blocks(int blockSize) {
+        return new SekBlocks<>(this, blockSize);
+    }
+
     /**
      * Splits this sequence into a sequence of lists each not exceeding the given {@param size}.
      * <p>
@@ -337,6 +682,34 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.count(this, predicate::test);
     }
 
+    /**
+     * Counts the elements of this sequence by the {@code int} key returned by the given {@param keySelector}
+     * applied to each element, without boxing keys or counts.
+     *
+     * @return a {@link SekIntCountMap} with the number of elements of each key, in the order the keys were first seen.
+     * <p>
+     * The operation is _terminal_.
+     */
+    default SekIntCountMap countByInt(ToIntFunction<? super T> keySelector) {
+        SekIntCountMap counts = new SekIntCountMap();
+        forEach(elem -> counts.increment(keySelector.applyAsInt(elem)));
+        return counts;
+    }
+
+    /**
+     * Counts the elements of this sequence by the {@code long} key returned by the given {@param keySelector}
+     * applied to each element, without boxing keys or counts.
+     *
+     * @return a {@link SekLongCountMap} with the number of elements of each key, in the order the keys were first seen.
+     * <p>
+     * The operation is _terminal_.
+     */
+    default SekLongCountMap countByLong(ToLongFunction<? super T> keySelector) {
+        SekLongCountMap counts = new SekLongCountMap();
+        forEach(elem -> counts.increment(keySelector.applyAsLong(elem)));
+        return counts;
+    }
+
     /**
      * @return a sequence containing only distinct elements from the given sequence.
      * <p>
@@ -365,6 +738,68 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.distinctBy(this, selector::apply)::iterator;
     }
 
+    /**
+     * @param maxKeys the maximum number of keys to remember
+     * @return a sequence containing only the elements that are not equal to any of the {@param maxKeys}
+     * most recently seen elements.
+     * <p>
+     * see {@code distinctLruBy}
+     */
+    default Sek<T> distinctLru(int maxKeys) {
+        return distinctLruBy(maxKeys, Function.identity());
+    }
+
+    /**
+     * @param maxKeys the maximum number of keys to remember
+     * @param selector Function that calculates the key for each element
+     * @return a sequence containing only the elements whose key returned by the given {@param selector} function
+     * is not equal to any of the {@param maxKeys} most recently seen keys.
+     * <p>
+     * Unlike {@code distinctBy}, which remembers every key, the keys are kept in a least recently used set of fixed
+     * capacity, thus memory use stays bounded on unbounded sequences. Seeing a key again, even on a dropped element,
+     * makes it the most recently seen, and a key is forgotten, and thus accepted again, only after {@param maxKeys}
+     * other keys were seen since its last occurrence.
+     *
+     * @throws IllegalArgumentException if {@param maxKeys} is less than zero.
+     * <p>
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default <K> Sek<T> distinctLruBy(int maxKeys, Function<? super T, ? extends K> selector) {
+        BoundedDistinct.requireCapacity(maxKeys);
+        return () -> SequencesKt.filter(this, BoundedDistinct.lru(maxKeys, selector)::test).iterator();
+    }
+
+    /**
+     * @param windowSize the number of preceding elements to compare each element with
+     * @return a sequence containing only the elements that are not equal to any of the {@param windowSize}
+     * elements preceding them in this sequence.
+     * <p>
+     * see {@code distinctWithinBy}
+     */
+    default Sek<T> distinctWithin(int windowSize) {
+        return distinctWithinBy(windowSize, Function.identity());
+    }
+
+    /**
+     * @param windowSize the number of preceding elements to compare each element with
+     * @param selector Function that calculates the key for each element
+     * @return a sequence containing only the elements whose key returned by the given {@param selector} function
+     * is not equal to the key of any of the {@param windowSize} elements preceding them in this sequence,
+     * whether those were dropped or not.
+     * <p>
+     * Unlike {@code distinctBy}, which remembers every key, only the keys of a sliding window are kept, in a ring buffer
+     * with the number of occurrences of each key, thus memory use is bounded by {@param windowSize} and the cost per
+     * element is constant.
+     *
+     * @throws IllegalArgumentException if {@param windowSize} is less than zero.
+     * <p>
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default <K> Sek<T> distinctWithinBy(int windowSize, Function<? super T, ? extends K> selector) {
+        BoundedDistinct.requireCapacity(windowSize);
+        return () -> SequencesKt.filter(this, BoundedDistinct.window(windowSize, selector)::test).iterator();
+    }
+
     /**
      * @param n number of starting elements to discard
      * @return a sequence containing all elements except first {@param n} elements.
@@ -417,6 +852,22 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.elementAtOrNull(this, index);
     }
 
+    /**
+     * Writes all elements, in order, at the current position of the {@param destination} buffer
+     * using the given {@param codec}.
+     *
+     * @return the {@param destination} buffer, positioned after the last encoded element.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in {@param destination}.
+     * <p>
+     * The operation is _terminal_.
+     */
+    default ByteBuffer encodeTo(ByteBuffer destination, SekCodec<? super T> codec) {
+        for (T elem : asIterable()) {
+            codec.write(destination, elem);
+        }
+        return destination;
+    }
+
     /**
      * @return a sequence containing only elements matching the given {@param predicate}.
      * <p>
@@ -570,21 +1021,26 @@ public interface Sek<T> extends Sequence<T> {
      * @return a sequence of all elements from all sequences in this sequence.
      * @throws java.lang.ClassCastException if T is not a Sequence<R>
      *
+     * Nested sequences, even those that are themselves built with {@code flatten}, {@code flatMap} or {@code plus},
+     * are iterated by a single iterator, so deep nesting cannot overflow the stack. Inner lists that cannot be
+     * structurally modified, like those of {@code toFrozenList} or {@link Arrays#asList}, are read by index.
+     *
      * The operation is _intermediate_ and _stateless_.
      */
-    @SuppressWarnings("unchecked")
     default <R> Sek<R> flatten() {
-        return SequencesKt.flatten((Sequence<Sequence<R>>)this)::iterator;
+        return ConcatSek.flatMap(this, null);
     }
 
     /**
      * @return a single sequence of all elements from results of {@param transform} function being invoked on each element of original sequence.
      * <p>
+     * Chained and recursively nested flat maps are iterated by a single iterator, see {@code flatten}.
+     * <p>
      * The operation is _intermediate_ and _stateless_.
      *
      */
     default <R> Sek<R> flatMap(Function<? super T, Sequence<R>> transform) {
-        return SequencesKt.flatMap(this, transform::apply)::iterator;
+        return ConcatSek.flatMap(this, transform);
     }
 
     /**
@@ -706,6 +1162,68 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.groupByTo(this, destination, keySelector::apply, valueTransform::apply);
     }
 
+    /**
+     * Groups elements of the original sequence by the {@code int} key returned by the given {@param keySelector}
+     * function applied to each element, without boxing the keys.
+     *
+     * @return a {@link SekIntMap} where each group key is associated with a list of corresponding elements,
+     * in the order the keys were first seen.
+     *
+     * The operation is _terminal_.
+     *
+     */
+    default SekIntMap<List<T>> groupByInt(ToIntFunction<? super T> keySelector) {
+        return groupByInt(keySelector, Function.identity());
+    }
+
+    /**
+     * Groups values returned by the {@param valueTransform} function applied to each element of the original sequence
+     * by the {@code int} key returned by the given {@param keySelector} function applied to the element,
+     * without boxing the keys.
+     *
+     * @return a {@link SekIntMap} where each group key is associated with a list of corresponding values,
+     * in the order the keys were first seen.
+     *
+     * The operation is _terminal_.
+     *
+     */
+    default <V> SekIntMap<List<V>> groupByInt(ToIntFunction<? super T> keySelector, Function<? super T, ? extends V> valueTransform) {
+        SekIntMap<List<V>> groups = new SekIntMap<>();
+        forEach(elem -> groups.getOrPut(keySelector.applyAsInt(elem), ArrayList::new).add(valueTransform.apply(elem)));
+        return groups;
+    }
+
+    /**
+     * Groups elements of the original sequence by the {@code long} key returned by the given {@param keySelector}
+     * function applied to each element, without boxing the keys.
+     *
+     * @return a {@link SekLongMap} where each group key is associated with a list of corresponding elements,
+     * in the order the keys were first seen.
+     *
+     * The operation is _terminal_.
+     *
+     */
+    default SekLongMap<List<T>> groupByLong(ToLongFunction<? super T> keySelector) {
+        return groupByLong(keySelector, Function.identity());
+    }
+
+    /**
+     * Groups values returned by the {@param valueTransform} function applied to each element of the original sequence
+     * by the {@code long} key returned by the given {@param keySelector} function applied to the element,
+     * without boxing the keys.
+     *
+     * @return a {@link SekLongMap} where each group key is associated with a list of corresponding values,
+     * in the order the keys were first seen.
+     *
+     * The operation is _terminal_.
+     *
+     */
+    default <V> SekLongMap<List<V>> groupByLong(ToLongFunction<? super T> keySelector, Function<? super T, ? extends V> valueTransform) {
+        SekLongMap<List<V>> groups = new SekLongMap<>();
+        forEach(elem -> groups.getOrPut(keySelector.applyAsLong(elem), ArrayList::new).add(valueTransform.apply(elem)));
+        return groups;
+    }
+
     /**
      * Creates a {@link Grouping} source from a sequence to be used later with one of group-and-fold operations
      * using the specified {@param keySelector} function to extract a key from each element.
@@ -717,6 +1235,35 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.groupingBy(this, keySelector::apply);
     }
 
+    /**
+     * @return the number of values returned by {@param selector} for the elements of this sequence that fall in each
+     * bucket delimited by the given {@param boundaries}, computed in a single pass.
+     *
+     * The returned array has one more bucket than there are {@param boundaries}: bucket {@code i} counts the values
+     * that are greater than or equal to {@code boundaries[i - 1]} and less than {@code boundaries[i]}, where the first
+     * and last buckets are unbounded below and above respectively. `NaN` values are ignored, as by {@code quantiles}.
+     *
+     * @throws IllegalArgumentException if {@param boundaries} are not sorted in strictly ascending order.
+     *
+     * The operation is _terminal_.
+     */
+    default long[] histogram(ToDoubleFunction<? super T> selector, double... boundaries) {
+        for (int i = 1; i < boundaries.length; i++) {
+            if (!(boundaries[i - 1] < boundaries[i])) {
+                throw new IllegalArgumentException("Boundaries must be sorted in strictly ascending order.");
+            }
+        }
+        long[] counts = new long[boundaries.length + 1];
+        forEach(elem -> {
+            double value = selector.applyAsDouble(elem);
+            if (!Double.isNaN(value)) {
+                int index = Arrays.binarySearch(boundaries, value);
+                counts[index >= 0 ? index + 1 : -index - 1]++;
+            }
+        });
+        return counts;
+    }
+
     /**
      * @return a sequence that iterates through the elements either of this sequence
      * or, if this sequence turns out to be empty, of the sequence returned by {@param defaultValue} function.
@@ -753,6 +1300,43 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.indexOfLast(this, predicate::test);
     }
 
+    /**
+     * @return a sequence with the results of applying {@param combiner} to every element of this sequence and
+     * each element of the {@param other} sequence with an equal key, where keys are returned by {@param keySelector}
+     * and {@param otherKeySelector} respectively.
+     *
+     * Results follow the order of this sequence and, for the same element, the order of the matching elements of {@param other}.
+     *
+     * The {@param other} sequence is the _build_ side: it is iterated once per iteration of the resulting sequence
+     * to fill a hash table, which should therefore be built from the smaller of the two sequences.
+     * This sequence is the _probe_ side and is streamed lazily through that table.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default <U, K, R> Sek<R> innerJoin(Sequence<? extends U> other, Function<? super T, ? extends K> keySelector, Function<? super U, ? extends K> otherKeySelector, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return () -> HashJoin.join(iterator(), new HashJoin.ObjectTable<>(other, otherKeySelector, keySelector, false), false, combiner);
+    }
+
+    /**
+     * @return a sequence with the results of applying {@param combiner} to every element of this sequence and
+     * each element of the {@param other} sequence with an equal int key, avoiding boxing of keys.
+     *
+     * see {@code innerJoin}
+     */
+    default <U, R> Sek<R> innerJoinInt(Sequence<? extends U> other, ToIntFunction<? super T> keySelector, ToIntFunction<? super U> otherKeySelector, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return () -> HashJoin.join(iterator(), new HashJoin.IntTable<>(other, otherKeySelector, keySelector, false), false, combiner);
+    }
+
+    /**
+     * @return a sequence with the results of applying {@param combiner} to every element of this sequence and
+     * each element of the {@param other} sequence with an equal long key, avoiding boxing of keys.
+     *
+     * see {@code innerJoin}
+     */
+    default <U, R> Sek<R> innerJoinLong(Sequence<? extends U> other, ToLongFunction<? super T> keySelector, ToLongFunction<? super U> otherKeySelector, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return () -> HashJoin.join(iterator(), new HashJoin.LongTable<>(other, otherKeySelector, keySelector, false), false, combiner);
+    }
+
     /**
      * Appends the string from all the elements separated using {@param separator} and using the given {@param prefix} and {@param postfix} if supplied.
      *
@@ -833,18 +1417,100 @@ public interface Sek<T> extends Sequence<T> {
     }
 
     /**
-     * @return a sequence containing the results of applying the given {@param transform} function
-     * to each element in the original sequence.
+     * @return a sequence that yields elements of this sequence sorted according to their natural sort order,
+     * sorting them incrementally as they are consumed.
+     * @throws java.lang.ClassCastException if T does not implement {@link Comparable}
      *
-     * The operation is _intermediate_ and _stateless_.
+     * see {@code lazySortedWith}
      *
+     * The operation is _intermediate_ and _stateful_.
      */
-    default <R> Sek<R> map(Function<? super T, R> transform) {
-        return SequencesKt.map(this, transform::apply)::iterator;
+    @SuppressWarnings("unchecked")
+    default Sek<T> lazySorted() {
+        return lazySortedWith((Comparator<? super T>) Comparator.naturalOrder());
     }
 
     /**
-     * Applies the given {@param transform} function to each element of the original sequence
+     * @param selector Function that maps each element to a comparable value
+     * @return a sequence that yields elements of this sequence sorted according to natural sort order of the value
+     * returned by specified {@param selector} function, sorting them incrementally as they are consumed.
+     *
+     * see {@code lazySortedWith}
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default <R extends Comparable<? super R>> Sek<T> lazySortedBy(Function<? super T, ? extends R> selector) {
+        return lazySortedWith(Comparator.comparing(selector));
+    }
+
+    /**
+     * @return a sequence that yields elements of this sequence sorted according to the specified {@param comparator},
+     * sorting them incrementally as they are consumed.
+     *
+     * Instead of sorting all elements before yielding the first one, the elements are arranged in a binary heap in
+     * linear time, and each element is then taken from the heap when it is requested. Hence, reading only the first
+     * {@code k} elements, for instance with {@code lazySortedWith(comparator).take(k)}, costs {@code O(n + k log n)}
+     * instead of {@code O(n log n)}, and the first element is available after a single linear pass.
+     *
+     * The sort is _stable_. It means that equal elements preserve their order relative to each other after sorting.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default Sek<T> lazySortedWith(Comparator<? super T> comparator) {
+        return () -> new LazyHeapSort<>(Materialization.toArray(this), comparator);
+    }
+
+    /**
+     * @return a sequence with the results of applying {@param combiner} to every element of this sequence and
+     * each element of the {@param other} sequence with an equal key, where keys are returned by {@param keySelector}
+     * and {@param otherKeySelector} respectively.
+     * Elements of this sequence without any match are combined once with `null`.
+     *
+     * Results follow the order of this sequence and, for the same element, the order of the matching elements of {@param other}.
+     *
+     * The {@param other} sequence is the _build_ side: it is iterated once per iteration of the resulting sequence
+     * to fill a hash table, which should therefore be built from the smaller of the two sequences.
+     * This sequence is the _probe_ side and is streamed lazily through that table.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default <U, K, R> Sek<R> leftJoin(Sequence<? extends U> other, Function<? super T, ? extends K> keySelector, Function<? super U, ? extends K> otherKeySelector, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return () -> HashJoin.join(iterator(), new HashJoin.ObjectTable<>(other, otherKeySelector, keySelector, false), true, combiner);
+    }
+
+    /**
+     * @return a sequence with the results of applying {@param combiner} to every element of this sequence and
+     * each element of the {@param other} sequence with an equal int key, or `null` if there is none, avoiding boxing of keys.
+     *
+     * see {@code leftJoin}
+     */
+    default <U, R> Sek<R> leftJoinInt(Sequence<? extends U> other, ToIntFunction<? super T> keySelector, ToIntFunction<? super U> otherKeySelector, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return () -> HashJoin.join(iterator(), new HashJoin.IntTable<>(other, otherKeySelector, keySelector, false), true, combiner);
+    }
+
+    /**
+     * @return a sequence with the results of applying {@param combiner} to every element of this sequence and
+     * each element of the {@param other} sequence with an equal long key, or `null` if there is none, avoiding boxing of keys.
+     *
+     * see {@code leftJoin}
+     */
+    default <U, R> Sek<R> leftJoinLong(Sequence<? extends U> other, ToLongFunction<? super T> keySelector, ToLongFunction<? super U> otherKeySelector, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return () -> HashJoin.join(iterator(), new HashJoin.LongTable<>(other, otherKeySelector, keySelector, false), true, combiner);
+    }
+
+    /**
+     * @return a sequence containing the results of applying the given {@param transform} function
+     * to each element in the original sequence.
+     *
+     * The operation is _intermediate_ and _stateless_.
+     *
+     */
+    default <R> Sek<R> map(Function<? super T, R> transform) {
+        return SequencesKt.map(this, transform::apply)::iterator;
+    }
+
+    /**
+     * Applies the given {@param transform} function to each element of the original sequence
      * and appends the results to the given {@param destination}.
      *
      * The operation is _terminal_.
@@ -912,6 +1578,21 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.mapNotNull(this, transform::apply)::iterator;
     }
 
+    /**
+     * @return a sequence with the results of applying {@param combiner} to every element of this sequence and
+     * each element of the {@param other} sequence with an equal key, where keys are returned by {@param keySelector}
+     * and {@param otherKeySelector} respectively and compared with {@param comparator}.
+     *
+     * Both sequences must be sorted by their keys according to {@param comparator}, in which case they are joined
+     * in a single pass without a hash table. Only the elements of {@param other} sharing the current key are buffered,
+     * so the memory used grows with the longest run of elements of {@param other} with equal keys.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default <U, K, R> Sek<R> mergeJoin(Sequence<? extends U> other, Function<? super T, ? extends K> keySelector, Function<? super U, ? extends K> otherKeySelector, Comparator<? super K> comparator, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return () -> SortedMerge.join(iterator(), other.iterator(), keySelector, otherKeySelector, comparator, combiner);
+    }
+
     /**
      * Applies the given {@param transform} function to each element in the original sequence
      * and appends only the non-null results to the given {@param destination}.
@@ -1006,6 +1687,87 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.minus(this, elements)::iterator;
     }
 
+    /**
+     * @return a sequence containing all elements of original sequence except those that might be contained
+     * in the given {@param elements}, according to a {@link SekBloomFilter} with the given {@param falsePositiveRate}.
+     *
+     * Unlike {@code minus}, which converts {@param elements} to a {@link HashSet}, the filter takes about
+     * {@code -1.44 * log2(falsePositiveRate)} bits per element, thus very large exclusion lists fit in memory.
+     * In exchange, each element that is not contained in {@param elements} is nevertheless dropped with a probability
+     * of about {@param falsePositiveRate}.
+     *
+     * The filter is built once, when this method is called, iterating {@param elements} twice unless it is a {@link Collection}.
+     *
+     * The operation is _intermediate_ and _stateless_.
+     */
+    default Sek<T> minusApprox(Iterable<? extends T> elements, double falsePositiveRate) {
+        return minusApprox(SekBloomFilter.of(elements, falsePositiveRate));
+    }
+
+    /**
+     * @return a sequence containing all elements of original sequence except those contained in the given {@param elements},
+     * where each element that might be contained according to a {@link SekBloomFilter} with the given {@param falsePositiveRate}
+     * is then tested with {@param exactCheck}, which should return `true` only for the elements that are actually contained.
+     *
+     * Since the filter rejects most of the other elements, {@param exactCheck} can be a slow lookup, for instance in an
+     * external store, which is performed for the excluded elements plus a {@param falsePositiveRate} fraction of the others.
+     *
+     * see {@code minusApprox(Iterable, double)}
+     *
+     * The operation is _intermediate_ and _stateless_.
+     */
+    default Sek<T> minusApprox(Iterable<? extends T> elements, double falsePositiveRate, Predicate<? super T> exactCheck) {
+        return minusApprox(SekBloomFilter.of(elements, falsePositiveRate), exactCheck);
+    }
+
+    /**
+     * @return a sequence containing all elements of original sequence except those that the given {@param filter}
+     * might contain.
+     *
+     * The operation is _intermediate_ and _stateless_.
+     */
+    default Sek<T> minusApprox(SekBloomFilter filter) {
+        return filterNot(filter::mightContain);
+    }
+
+    /**
+     * @return a sequence containing all elements of original sequence except those that the given {@param filter}
+     * might contain and for which {@param exactCheck} returns `true`.
+     *
+     * {@param exactCheck} is only invoked for the elements that pass the filter.
+     *
+     * The operation is _intermediate_ and _stateless_.
+     */
+    default Sek<T> minusApprox(SekBloomFilter filter, Predicate<? super T> exactCheck) {
+        return filterNot(elem -> filter.mightContain(elem) && exactCheck.test(elem));
+    }
+
+    /**
+     * @return a sequence containing all elements of original sequence except those that might be contained in the given
+     * {@param elements}, according to a {@link SekBloomFilter} with the given {@param falsePositiveRate} holding the long
+     * keys returned by {@param keySelector}.
+     *
+     * {@param keySelector} can be a 64-bit hash function of the elements, for elements whose {@code hashCode()} does not
+     * provide enough bits to keep the false positive rate of very large filters.
+     *
+     * see {@code minusApprox(Iterable, double)}
+     *
+     * The operation is _intermediate_ and _stateless_.
+     */
+    default Sek<T> minusApproxByLong(Iterable<? extends T> elements, double falsePositiveRate, ToLongFunction<? super T> keySelector) {
+        return minusApproxByLong(SekBloomFilter.of(elements, falsePositiveRate, keySelector), keySelector);
+    }
+
+    /**
+     * @return a sequence containing all elements of original sequence except those whose long key, returned by
+     * {@param keySelector}, the given {@param filter} might contain.
+     *
+     * The operation is _intermediate_ and _stateless_.
+     */
+    default Sek<T> minusApproxByLong(SekBloomFilter filter, ToLongFunction<? super T> keySelector) {
+        return filterNot(elem -> filter.mightContainLong(keySelector.applyAsLong(elem)));
+    }
+
     /**
      * @return the first element having the smallest value according to the provided {@param comparator} or `null` if there are no elements.
      *
@@ -1061,6 +1823,184 @@ public interface Sek<T> extends Sequence<T> {
         })::iterator;
     }
 
+    /**
+     * @return a sequence of the results of {@param stage} applied to consecutive chunks of {@param chunkSize} elements,
+     * with at most twice as many chunks in flight as available processors, see {@code parallelChunks(int, int, Executor, Function)}.
+     */
+    default <R> Sek<R> parallelChunks(int chunkSize, Executor executor, Function<? super Sek<T>, ? extends Sek<R>> stage) {
+        return parallelChunks(chunkSize, 2 * Runtime.getRuntime().availableProcessors(), executor, stage);
+    }
+
+    /**
+     * Cuts this sequence into consecutive chunks of {@param chunkSize} elements, the last one possibly smaller, and
+     * runs the sub-pipeline {@param stage} over each chunk on {@param executor}.
+     * <p>
+     * The chunks are read while iterating the returned sequence, by the iterating thread only, so that sequences
+     * which can only be iterated, like {@code generate}, are processed in parallel too. At most {@param maxInFlight}
+     * chunks are submitted ahead of the one whose results are being yielded, and the results of each chunk are
+     * collected by the worker and yielded in the order of the chunks.
+     * <p>
+     * If {@param stage} fails for a chunk, the pending chunks are cancelled and the failure is rethrown when the
+     * results of that chunk are reached.
+     * <p>
+     * The operation is _intermediate_ and _stateful_.
+     *
+     * @throws IllegalArgumentException if {@param chunkSize} or {@param maxInFlight} is not positive.
+     */
+    default <R> Sek<R> parallelChunks(int chunkSize, int maxInFlight, Executor executor, Function<? super Sek<T>, ? extends Sek<R>> stage) {
+        return ParallelChunks.of(this, chunkSize, maxInFlight, executor, stage);
+    }
+
+    /**
+     * Counts the elements of the original sequence by the key returned by the given {@param keySelector} function,
+     * using the workers of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * Each worker claims batches of elements from the sequence, see {@code shared}, and counts them in its own map,
+     * without any contention, and the maps of the workers are then merged pairwise.
+     *
+     * @return a map associating each key with the number of elements that have it, in no particular order.
+     * <p>
+     * The operation is _terminal_.
+     */
+    default <K> Map<K, Long> parallelEachCount(Function<? super T, ? extends K> keySelector) {
+        return ParallelGrouping.eachCount(this, keySelector);
+    }
+
+    /**
+     * Groups elements of the original sequence by the key returned by the given {@param keySelector} function and
+     * folds the elements of each group, starting with the value returned by {@param initialValue}, with {@param operation},
+     * using the workers of the common {@link java.util.concurrent.ForkJoinPool}.
+     * <p>
+     * The sequence is split into one contiguous range of elements per worker, each one folded into its own map
+     * without any contention, and the maps are then merged pairwise in encounter order, using {@param combiner} to
+     * combine the accumulators of the same key, the accumulator of the earlier range being its first argument.
+     * Sequences that are not backed by a random access list are first read into one, in the calling thread.
+     *
+     * @return a map associating each key with its accumulated value, which preserves the entry iteration order
+     * of the keys produced from the original sequence.
+     * <p>
+     * The operation is _terminal_.
+     */
+    default <K, R> Map<K, R> parallelFold(
+            Function<? super T, ? extends K> keySelector,
+            Supplier<? extends R> initialValue,
+            BiFunction<? super R, ? super T, ? extends R> operation,
+            BinaryOperator<R> combiner) {
+        return ParallelGrouping.fold(this, keySelector, initialValue, operation, combiner);
+    }
+
+    /**
+     * Groups elements of the original sequence by the key returned by the given {@param keySelector} function,
+     * using the workers of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return a map where each group key is associated with a list of corresponding elements, with the same
+     * iteration order of the keys and of the elements of each list as {@code groupBy}.
+     * <p>
+     * see {@code parallelFold}
+     * <p>
+     * The operation is _terminal_.
+     */
+    default <K> Map<K, List<T>> parallelGroupBy(Function<? super T, ? extends K> keySelector) {
+        return parallelGroupBy(keySelector, Function.identity());
+    }
+
+    /**
+     * Groups values returned by the {@param valueTransform} function applied to each element of the original sequence
+     * by the key returned by the given {@param keySelector} function applied to the element,
+     * using the workers of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return a map where each group key is associated with a list of corresponding values, with the same
+     * iteration order of the keys and of the values of each list as {@code groupBy}.
+     * <p>
+     * see {@code parallelFold}
+     * <p>
+     * The operation is _terminal_.
+     */
+    default <K, V> Map<K, List<V>> parallelGroupBy(Function<? super T, ? extends K> keySelector, Function<? super T, ? extends V> valueTransform) {
+        return parallelFold(keySelector, ArrayList::new, (List<V> group, T elem) -> {
+            group.add(valueTransform.apply(elem));
+            return group;
+        }, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    /**
+     * @return a sequence that yields elements of this sequence sorted according to their natural sort order,
+     * using the workers of the common {@link java.util.concurrent.ForkJoinPool}.
+     * @throws java.lang.ClassCastException if T does not implement {@link Comparable}
+     *
+     * see {@code parallelSortedWith}
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    @SuppressWarnings("unchecked")
+    default Sek<T> parallelSorted() {
+        return parallelSortedWith((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * @param selector Function that maps each element to a comparable value
+     * @return a sequence that yields elements of this sequence sorted according to natural sort order of the value
+     * returned by specified {@param selector} function, using the workers of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * see {@code parallelSortedWith}
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default <R extends Comparable<? super R>> Sek<T> parallelSortedBy(Function<? super T, ? extends R> selector) {
+        return parallelSortedWith(Comparator.comparing(selector));
+    }
+
+    /**
+     * @param selector Function that maps each element to a comparable value
+     * @return a sequence that yields elements of this sequence sorted descending according to natural sort order of the
+     * value returned by specified {@param selector} function, using the workers of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * see {@code parallelSortedWith}
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default <R extends Comparable<? super R>> Sek<T> parallelSortedByDescending(Function<? super T, ? extends R> selector) {
+        return parallelSortedWith(Comparator.comparing(selector, Comparator.reverseOrder()));
+    }
+
+    /**
+     * @return a sequence that yields elements of this sequence sorted descending according to their natural sort order,
+     * using the workers of the common {@link java.util.concurrent.ForkJoinPool}.
+     * @throws java.lang.ClassCastException if T does not implement {@link Comparable}
+     *
+     * see {@code parallelSortedWith}
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    @SuppressWarnings("unchecked")
+    default Sek<T> parallelSortedDescending() {
+        return parallelSortedWith((Comparator<? super T>) Comparator.reverseOrder());
+    }
+
+    /**
+     * @return a sequence that yields elements of this sequence sorted according to the specified {@param comparator},
+     * using the workers of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * The elements are copied into an array, directly from the underlying list of random access sequences, which is
+     * sorted with {@link Arrays#parallelSort(Object[], Comparator)}. That is a parallel merge sort which only splits
+     * the work across workers above a size threshold of 8192 elements and sorts smaller arrays in the calling thread.
+     *
+     * The sort is _stable_. It means that equal elements preserve their order relative to each other after sorting.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default Sek<T> parallelSortedWith(Comparator<? super T> comparator) {
+        return () -> {
+            @SuppressWarnings("unchecked")
+            T[] elements = (T[]) Materialization.toArray(this);
+            Arrays.parallelSort(elements, comparator);
+            return Arrays.asList(elements).iterator();
+        };
+    }
+
     /**
      * Splits the original sequence into pair of lists,
      * where *first* list contains elements for which {@param predicate} yielded `true`,
@@ -1079,7 +2019,7 @@ public interface Sek<T> extends Sequence<T> {
      * The operation is _intermediate_ and _stateless_.
      */
     default Sek<T> plus(T element) {
-        return SequencesKt.plus(this, element)::iterator;
+        return ConcatSek.concat(this, Collections.singletonList(element));
     }
 
     /**
@@ -1091,7 +2031,7 @@ public interface Sek<T> extends Sequence<T> {
      * The operation is _intermediate_ and _stateless_.
      */
     default Sek<T> plus(T[] elements) {
-        return SequencesKt.plus(this, elements)::iterator;
+        return ConcatSek.concat(this, Arrays.asList(elements));
     }
 
     /**
@@ -1103,7 +2043,7 @@ public interface Sek<T> extends Sequence<T> {
      * The operation is _intermediate_ and _stateless_.
      */
     default Sek<T> plus(Iterable<? extends T> elements) {
-        return SequencesKt.plus(this, elements)::iterator;
+        return ConcatSek.concat(this, elements);
     }
 
     /**
@@ -1112,10 +2052,30 @@ public interface Sek<T> extends Sequence<T> {
      * Note that the source sequence and the sequence being added are iterated only when an `iterator` is requested from
      * the resulting sequence. Changing any of them between successive calls to `iterator` may affect the result.
      *
+     * Chained calls to {@code plus} are collapsed into a single flat concatenation, see {@code concat}.
+     *
      * The operation is _intermediate_ and _stateless_.
      */
     default Sek<T> plus(Sequence<? extends T> elements) {
-        return SequencesKt.plus(this, elements)::iterator;
+        return ConcatSek.concat(this, elements);
+    }
+
+    /**
+     * @return the estimated values at each of the given {@param qs} quantiles of the values returned by {@param selector}
+     * for the elements of this sequence, or `NaN` values if the sequence is empty.
+     *
+     * The values are summarized in a single pass by a {@link SekQuantileSketch}, which uses bounded memory and
+     * estimates each quantile with a rank error below 1%. `NaN` values are ignored.
+     *
+     * @throws IllegalArgumentException if any of {@param qs} is not between 0 and 1.
+     *
+     * The operation is _terminal_.
+     */
+    default double[] quantiles(ToDoubleFunction<? super T> selector, double... qs) {
+        SekQuantileSketch.requireQuantiles(qs);
+        SekQuantileSketch sketch = new SekQuantileSketch();
+        forEach(elem -> sketch.add(selector.applyAsDouble(elem)));
+        return sketch.quantiles(qs);
     }
 
     /**
@@ -1263,6 +2223,64 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.runningReduceIndexed(this, operation::apply)::iterator;
     }
 
+    /**
+     * @return a sequence with {@param k} elements of this sequence selected uniformly at random, in no particular order,
+     * or all of its elements if it has less than {@param k} elements.
+     *
+     * see {@code sample(int, Random)}
+     */
+    default Sek<T> sample(int k) {
+        return sample(k, Random.Default);
+    }
+
+    /**
+     * @return a sequence with {@param k} elements of this sequence selected uniformly at random, in no particular order,
+     * using the specified {@param random} instance as the source of randomness,
+     * or all of its elements if it has less than {@param k} elements.
+     *
+     * Elements are selected with reservoir sampling, which keeps only {@param k} elements in memory and skips ahead
+     * over the elements that will not be selected. When this sequence is backed by a random-access list the skipped
+     * elements are not visited at all.
+     *
+     * Note that every iteration of the sequence returns a different sample.
+     *
+     * @throws IllegalArgumentException if {@param k} is negative.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default Sek<T> sample(int k, Random random) {
+        Sampling.requireSize(k);
+        return () -> Sampling.reservoir(this, k, random).iterator();
+    }
+
+    /**
+     * @return a sequence with each element of this sequence selected independently with probability {@param p}.
+     *
+     * see {@code sampleFraction(double, Random)}
+     */
+    default Sek<T> sampleFraction(double p) {
+        return sampleFraction(p, Random.Default);
+    }
+
+    /**
+     * @return a sequence with each element of this sequence selected independently with probability {@param p},
+     * using the specified {@param random} instance as the source of randomness.
+     *
+     * Instead of drawing a random number per element, the distance to the next selected element is drawn from
+     * a geometric distribution. When this sequence is backed by a random-access list the skipped elements are
+     * not visited at all.
+     *
+     * Note that every iteration of the sequence returns a different sample.
+     *
+     * @throws IllegalArgumentException if {@param p} is not between 0 and 1.
+     *
+     * The operation is _intermediate_ and _stateless_.
+     */
+    default Sek<T> sampleFraction(double p, Random random) {
+        Sampling.requireProbability(p);
+        return () -> Sampling.bernoulli(this, p, random);
+    }
+
     /**
      * @return a sequence containing successive accumulation values generated by applying {@param operation} from left to right
      * to each element and current accumulator value that starts with {@param initial} value.
@@ -1300,15 +2318,78 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.scanIndexed(this, initial, operation::apply)::iterator;
     }
 
+    /**
+     * @return a sequence containing the elements of this sequence whose key, returned by {@param keySelector},
+     * is returned by {@param otherKeySelector} for at least one element of the {@param other} sequence.
+     *
+     * Each element of this sequence is yielded at most once, regardless of how many elements of {@param other} it matches.
+     *
+     * The {@param other} sequence is the _build_ side: it is iterated once per iteration of the resulting sequence
+     * to fill a hash table, which should therefore be built from the smaller of the two sequences.
+     * This sequence is the _probe_ side and is streamed lazily through that table.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default <U, K> Sek<T> semiJoin(Sequence<? extends U> other, Function<? super T, ? extends K> keySelector, Function<? super U, ? extends K> otherKeySelector) {
+        return () -> HashJoin.filter(iterator(), new HashJoin.ObjectTable<>(other, otherKeySelector, keySelector, true), true);
+    }
+
+    /**
+     * @return a sequence containing the elements of this sequence whose int key is a key of at least one element of
+     * the {@param other} sequence, avoiding boxing of keys.
+     *
+     * see {@code semiJoin}
+     */
+    default <U> Sek<T> semiJoinInt(Sequence<? extends U> other, ToIntFunction<? super T> keySelector, ToIntFunction<? super U> otherKeySelector) {
+        return () -> HashJoin.filter(iterator(), new HashJoin.IntTable<>(other, otherKeySelector, keySelector, true), true);
+    }
+
+    /**
+     * @return a sequence containing the elements of this sequence whose long key is a key of at least one element of
+     * the {@param other} sequence, avoiding boxing of keys.
+     *
+     * see {@code semiJoin}
+     */
+    default <U> Sek<T> semiJoinLong(Sequence<? extends U> other, ToLongFunction<? super T> keySelector, ToLongFunction<? super U> otherKeySelector) {
+        return () -> HashJoin.filter(iterator(), new HashJoin.LongTable<>(other, otherKeySelector, keySelector, true), true);
+    }
+
+    /**
+     * @return a sequence that is consumed once by all of its iterators together, see {@code shared(int)}.
+     */
+    default Sek<T> shared() {
+        return new SharedSek<>(this, SharedSek.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @return a sequence whose iterators share a single pass over this sequence, so that several threads can
+     * drain it concurrently, each element being yielded by exactly one iterator.
+     *
+     * Iterators claim {@param batchSize} consecutive elements at a time, to limit contention between threads:
+     * over a random-access list a batch is claimed without locking, while other sequences are read one batch
+     * at a time under a lock. Once this sequence is exhausted, new iterators are empty.
+     *
+     * Each iterator must still be used by a single thread at a time.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     *
+     * @throws IllegalArgumentException if {@param batchSize} is not positive.
+     */
+    default Sek<T> shared(int batchSize) {
+        return new SharedSek<>(this, batchSize);
+    }
+
     /**
      * @return a sequence that yields elements of this sequence randomly shuffled.
      *
      * Note that every iteration of the sequence returns elements in a different order.
      *
      * The operation is _intermediate_ and _stateful_.
+     *
+     * see {@code shuffled(Random)}
      */
     default Sek<T> shuffled() {
-        return SequencesKt.shuffled(this)::iterator;
+        return shuffled(Random.Default);
     }
 
     /**
@@ -1317,9 +2398,16 @@ public interface Sek<T> extends Sequence<T> {
      *
      * Note that every iteration of the sequence returns elements in a different order.
      *
+     * When this sequence is backed by a random-access list, elements are shuffled lazily over the positions
+     * of that list without copying it, so that taking the first k shuffled elements costs O(k).
+     *
      * The operation is _intermediate_ and _stateful_.
      */
     default Sek<T> shuffled(Random random) {
+        if (this instanceof ListSek) {
+            List<T> list = ((ListSek<T>) this).list;
+            return () -> new LazyShuffle<>(list, random);
+        }
         return SequencesKt.shuffled(this, random)::iterator;
     }
 
@@ -1398,6 +2486,94 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.sortedByDescending(this, selector::apply)::iterator;
     }
 
+    /**
+     * @param selector ToDoubleFunction that maps each element to a double key
+     * @return a sequence that yields elements of this sequence sorted ascending according to the double key
+     * returned by specified {@param selector} function.
+     * Keys are ordered as by {@link Double#compare}, where {@code -0.0} comes before {@code 0.0} and `NaN` comes last.
+     *
+     * Unlike {@code sortedBy}, which compares boxed keys, {@param selector} is applied once per element and
+     * the elements are sorted with a radix sort over the primitive keys, in linear time.
+     *
+     * The sort is _stable_. It means that equal elements preserve their order relative to each other after sorting.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default Sek<T> sortedByDouble(ToDoubleFunction<? super T> selector) {
+        return () -> RadixSort.sortedByDouble(this, selector).iterator();
+    }
+
+    /**
+     * @param selector ToIntFunction that maps each element to a int key
+     * @return a sequence that yields elements of this sequence sorted ascending according to the int key
+     * returned by specified {@param selector} function.
+     *
+     * Unlike {@code sortedBy}, which compares boxed keys, {@param selector} is applied once per element and
+     * the elements are sorted with a radix sort over the primitive keys, in linear time.
+     *
+     * The sort is _stable_. It means that equal elements preserve their order relative to each other after sorting.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default Sek<T> sortedByInt(ToIntFunction<? super T> selector) {
+        return () -> RadixSort.sortedByInt(this, selector).iterator();
+    }
+
+    /**
+     * @param selector ToLongFunction that maps each element to a long key
+     * @return a sequence that yields elements of this sequence sorted ascending according to the long key
+     * returned by specified {@param selector} function.
+     *
+     * Unlike {@code sortedBy}, which compares boxed keys, {@param selector} is applied once per element and
+     * the elements are sorted with a radix sort over the primitive keys, in linear time.
+     *
+     * The sort is _stable_. It means that equal elements preserve their order relative to each other after sorting.
+     *
+     * The operation is _intermediate_ and _stateful_.
+     */
+    default Sek<T> sortedByLong(ToLongFunction<? super T> selector) {
+        return () -> RadixSort.sortedByLong(this, selector).iterator();
+    }
+
+    /**
+     * @return a sequence containing the elements of this sequence that are not equal, according to {@param comparator},
+     * to any element of the {@param other} sequence.
+     *
+     * Both sequences must be sorted according to {@param comparator}, in which case the difference is computed in a
+     * single pass with constant memory, unlike {@code minus} that converts its argument to a {@link HashSet}.
+     *
+     * The operation is _intermediate_ and _stateless_.
+     */
+    default Sek<T> sortedDifference(Sequence<? extends T> other, Comparator<? super T> comparator) {
+        return () -> SortedMerge.filter(iterator(), other.iterator(), comparator, false);
+    }
+
+    /**
+     * @return a sequence containing the elements of this sequence that are equal, according to {@param comparator},
+     * to some element of the {@param other} sequence.
+     *
+     * Both sequences must be sorted according to {@param comparator}, in which case the intersection is computed in a
+     * single pass with constant memory.
+     *
+     * The operation is _intermediate_ and _stateless_.
+     */
+    default Sek<T> sortedIntersect(Sequence<? extends T> other, Comparator<? super T> comparator) {
+        return () -> SortedMerge.filter(iterator(), other.iterator(), comparator, true);
+    }
+
+    /**
+     * @return a sorted sequence containing all elements of this sequence and the elements of the {@param other} sequence
+     * that are not equal, according to {@param comparator}, to any element of this sequence.
+     *
+     * Both sequences must be sorted according to {@param comparator}, in which case the union is computed in a
+     * single pass with constant memory. Among equal elements, those of this sequence come first.
+     *
+     * The operation is _intermediate_ and _stateless_.
+     */
+    default Sek<T> sortedUnion(Sequence<? extends T> other, Comparator<? super T> comparator) {
+        return () -> SortedMerge.union(iterator(), other.iterator(), comparator);
+    }
+
     /**
      * @return a sequence that yields elements of this sequence sorted descending according to their natural sort order.
      * @throws java.lang.ClassCastException if T does not implement {@link Comparable}
@@ -1442,6 +2618,45 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.sumByDouble(this, selector::applyAsDouble);
     }
 
+    /**
+     * @param selector ToDoubleFunction that calculates the value for each element
+     * @return the count, sum, minimum, average and maximum of the values produced by {@param selector}
+     * for the elements of this sequence, computed in a single pass.
+     *
+     * The operation is _terminal_.
+     */
+    default DoubleSummaryStatistics summarizeDouble(ToDoubleFunction<? super T> selector) {
+        DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        forEach(elem -> statistics.accept(selector.applyAsDouble(elem)));
+        return statistics;
+    }
+
+    /**
+     * @param selector ToIntFunction that calculates the value for each element
+     * @return the count, sum, minimum, average and maximum of the values produced by {@param selector}
+     * for the elements of this sequence, computed in a single pass.
+     *
+     * The operation is _terminal_.
+     */
+    default IntSummaryStatistics summarizeInt(ToIntFunction<? super T> selector) {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        forEach(elem -> statistics.accept(selector.applyAsInt(elem)));
+        return statistics;
+    }
+
+    /**
+     * @param selector ToLongFunction that calculates the value for each element
+     * @return the count, sum, minimum, average and maximum of the values produced by {@param selector}
+     * for the elements of this sequence, computed in a single pass.
+     *
+     * The operation is _terminal_.
+     */
+    default LongSummaryStatistics summarizeLong(ToLongFunction<? super T> selector) {
+        LongSummaryStatistics statistics = new LongSummaryStatistics();
+        forEach(elem -> statistics.accept(selector.applyAsLong(elem)));
+        return statistics;
+    }
+
     /**
      * @return a sequence containing first {@param n} elements.
      *
@@ -1464,6 +2679,62 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.takeWhile(this, predicate::test)::iterator;
     }
 
+    /**
+     * Iterates this sequence once and broadcasts its elements to each of the given {@param branches},
+     * so that several downstream pipelines can be computed from a source that is expensive or that
+     * can be iterated only once.
+     * <p>
+     * Every branch runs concurrently on a thread of a shared pool of daemon threads, see {@code tee(List, Executor)},
+     * and receives the elements, in order, through a bounded queue of batches, thus the memory used stays bounded
+     * when branches progress at a similar pace.
+     * A branch that returns before consuming all elements stops being fed, and the source stops being
+     * iterated as soon as every branch has returned. The {@code Sek} given to a branch can be iterated only once,
+     * and only before the branch returns: a branch must compute its result eagerly, since reading a lazy result,
+     * like {@code sek -> sek.filter(...)}, after {@code tee} returns throws an {@link IllegalStateException}.
+     * If the source or any branch throws an exception, the remaining branches are cancelled and the
+     * exception is rethrown to the caller.
+     *
+     * @return the results of the given {@param branches}, in the same order.
+     * <p>
+     * The operation is _terminal_.
+     */
+    default <R> List<R> tee(List<? extends Function<? super Sek<T>, ? extends R>> branches) {
+        return tee(branches, Tee.DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Iterates this sequence once and broadcasts its elements to each of the given {@param branches},
+     * running every branch on the given {@param executor}.
+     * <p>
+     * The source is read in the calling thread while the branches consume it, so the {@param executor} must run
+     * all branches concurrently, on threads other than the calling one: a branch that is queued behind another one,
+     * or run by the calling thread, blocks the whole {@code tee}.
+     *
+     * @return the results of the given {@param branches}, in the same order.
+     * <p>
+     * see {@code tee(List)}
+     * <p>
+     * The operation is _terminal_.
+     */
+    default <R> List<R> tee(List<? extends Function<? super Sek<T>, ? extends R>> branches, Executor executor) {
+        return Tee.run(this, branches, executor);
+    }
+
+    /**
+     * Iterates this sequence once and broadcasts its elements to both {@param first} and {@param second} branches.
+     *
+     * @return the result of applying {@param merger} to the results of both branches.
+     * <p>
+     * see {@code tee(List)}
+     * <p>
+     * The operation is _terminal_.
+     */
+    @SuppressWarnings("unchecked")
+    default <A, B, R> R tee(Function<? super Sek<T>, ? extends A> first, Function<? super Sek<T>, ? extends B> second, BiFunction<? super A, ? super B, ? extends R> merger) {
+        List<Object> results = tee(Arrays.<Function<? super Sek<T>, ?>>asList(first, second));
+        return merger.apply((A) results.get(0), (B) results.get(1));
+    }
+
     /**
      * This method allows for easy extensibility of the Sek API with user defined operations.
      *
@@ -1476,6 +2747,45 @@ public interface Sek<T> extends Sequence<T> {
         return next.apply(this)::iterator;
     }
 
+    /**
+     * @return an exactly sized array, created by {@param generator} from its length, with all elements of this sequence.
+     *
+     * When this sequence is backed by a random-access list the array is allocated directly with its final size,
+     * otherwise the elements are buffered in a growing array first.
+     *
+     * The operation is _terminal_.
+     */
+    default T[] toArray(IntFunction<T[]> generator) {
+        return Materialization.toArray(this, generator);
+    }
+
+    /**
+     * @return a {@link SekBloomFilter} sized for {@param expectedInsertions} elements with the given {@param falsePositiveRate},
+     * holding all elements of this sequence.
+     *
+     * The operation is _terminal_.
+     */
+    default SekBloomFilter toBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        SekBloomFilter filter = new SekBloomFilter(expectedInsertions, falsePositiveRate);
+        forEach(filter::add);
+        return filter;
+    }
+
+    /**
+     * @return a {@link SekBloomFilter} sized for {@param expectedInsertions} elements with the given {@param falsePositiveRate},
+     * holding the long keys returned by {@param keySelector} for all elements of this sequence, which can be tested
+     * with {@code mightContainLong}.
+     *
+     * {@param keySelector} can be a 64-bit hash function of the elements, see {@code minusApproxByLong}.
+     *
+     * The operation is _terminal_.
+     */
+    default SekBloomFilter toBloomFilterByLong(long expectedInsertions, double falsePositiveRate, ToLongFunction<? super T> keySelector) {
+        SekBloomFilter filter = new SekBloomFilter(expectedInsertions, falsePositiveRate);
+        forEach(elem -> filter.addLong(keySelector.applyAsLong(elem)));
+        return filter;
+    }
+
     /**
      * Appends all elements to the given {@param destination} collection.
      *
@@ -1485,6 +2795,32 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.toCollection(this, destination);
     }
 
+    /**
+     * @param selector ToDoubleFunction that calculates the value for each element
+     * @return an exactly sized array with the values produced by {@param selector} for the elements of this sequence.
+     *
+     * see {@code toArray}
+     *
+     * The operation is _terminal_.
+     */
+    default double[] toDoubleArray(ToDoubleFunction<? super T> selector) {
+        return Materialization.toDoubleArray(this, selector);
+    }
+
+    /**
+     * @return an immutable random-access {@link List} of all elements, backed by an exactly sized array.
+     *
+     * Unlike {@code toList}, the returned list has neither spare capacity nor the bookkeeping fields of
+     * an {@link ArrayList}, which makes it suitable for keeping many materialized results.
+     *
+     * see {@code toArray}
+     *
+     * The operation is _terminal_.
+     */
+    default List<T> toFrozenList() {
+        return new FrozenList<>(Materialization.toArray(this));
+    }
+
     /**
      * @return a new {@link HashSet} of all elements.
      *
@@ -1494,6 +2830,18 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.toHashSet(this);
     }
 
+    /**
+     * @param selector ToIntFunction that calculates the value for each element
+     * @return an exactly sized array with the values produced by {@param selector} for the elements of this sequence.
+     *
+     * see {@code toArray}
+     *
+     * The operation is _terminal_.
+     */
+    default int[] toIntArray(ToIntFunction<? super T> selector) {
+        return Materialization.toIntArray(this, selector);
+    }
+
     /**
      * @return a {@link List} containing all elements.
      *
@@ -1503,6 +2851,18 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.toList(this);
     }
 
+    /**
+     * @param selector ToLongFunction that calculates the value for each element
+     * @return an exactly sized array with the values produced by {@param selector} for the elements of this sequence.
+     *
+     * see {@code toArray}
+     *
+     * The operation is _terminal_.
+     */
+    default long[] toLongArray(ToLongFunction<? super T> selector) {
+        return Materialization.toLongArray(this, selector);
+    }
+
     /**
      * @return a new {@link List} filled with all elements of this sequence.
      *
@@ -1534,6 +2894,44 @@ public interface Sek<T> extends Sequence<T> {
         return SequencesKt.toSet(this);
     }
 
+    /**
+     * @return a {@link SekSortedIndex} of all elements sorted according to the given {@param comparator}, which looks up
+     * elements by binary search instead of scanning them.
+     *
+     * The elements are copied into an array, which is sorted unless it is already sorted, as checked in linear time.
+     * The sort is _stable_.
+     *
+     * The operation is _terminal_.
+     */
+    default SekSortedIndex<T, T> toSortedIndex(Comparator<? super T> comparator) {
+        return toSortedIndexBy(Function.identity(), comparator);
+    }
+
+    /**
+     * @return a {@link SekSortedIndex} of all elements sorted according to natural sort order of the key returned by
+     * specified {@param selector} function, which looks up elements by key with binary search instead of scanning them.
+     *
+     * see {@code toSortedIndex}
+     *
+     * The operation is _terminal_.
+     */
+    default <K extends Comparable<? super K>> SekSortedIndex<T, K> toSortedIndexBy(Function<? super T, ? extends K> selector) {
+        return toSortedIndexBy(selector, Comparator.naturalOrder());
+    }
+
+    /**
+     * @return a {@link SekSortedIndex} of all elements sorted according to the key returned by specified {@param selector}
+     * function and compared with {@param comparator}, which looks up elements by key with binary search instead of
+     * scanning them.
+     *
+     * see {@code toSortedIndex}
+     *
+     * The operation is _terminal_.
+     */
+    default <K> SekSortedIndex<T, K> toSortedIndexBy(Function<? super T, ? extends K> selector, Comparator<? super K> comparator) {
+        return new SekSortedIndex<>(Materialization.toArray(this), selector, comparator);
+    }
+
     /**
      * @return a new {@link java.util.SortedSet} of all elements.
      * @throws java.lang.ClassCastException if T does not implement {@link Comparable}
@@ -0,0 +1,441 @@
+package com.tinyield;
+
+import kotlin.collections.AbstractIterator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A pipeline over the elements of a {@link Sek} that is executed one block of elements at a time.
+ *
+ * <p>Instead of pulling each element through a chain of iterators, the source is read into fixed-size blocks,
+ * and every stage processes a whole block in a tight loop before the next stage runs: {@code filter} narrows
+ * the _selection vector_ of the block, which lists the positions of its remaining elements, and {@code map}
+ * replaces the selected elements in place. This spreads the cost of virtual calls and iterator bookkeeping over
+ * many elements, and gives the JIT simple counted loops to optimize. Numeric stages and terminals, like
+ * {@code filterBetween} and {@code sumByDouble}, extract the values of each block to a primitive array
+ * and compare or reduce them there.
+ *
+ * <p>Like a {@link Sek}, a pipeline is lazy and can be executed several times; each execution reads the source again.
+ * Instances are created with {@code Sek.blocks}.
+ *
+ * @param <T> the type of the elements leaving the pipeline
+ */
+public final class SekBlocks<T> {
+
+    /**
+     * Number of elements per block used by {@code Sek.blocks()}.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final Sek<?> source;
+    private final int blockSize;
+    private final Stage[] stages;
+
+    SekBlocks(Sek<?> source, int blockSize) {
+        this(source, requireBlockSize(blockSize), new Stage[0]);
+    }
+
+    private SekBlocks(Sek<?> source, int blockSize, Stage[] stages) {
+        this.source = source;
+        this.blockSize = blockSize;
+        this.stages = stages;
+    }
+
+    private static int requireBlockSize(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size " + blockSize + " must be greater than zero.");
+        }
+        return blockSize;
+    }
+
+    /**
+     * @return the maximum number of elements of each block.
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * @return a pipeline containing only elements matching the given {@param predicate}.
+     */
+    @SuppressWarnings("unchecked")
+    public SekBlocks<T> filter(Predicate<? super T> predicate) {
+        return then(block -> {
+            Object[] values = block.values;
+            int[] selection = block.selection;
+            int size = block.size;
+            int selected = 0;
+            if (block.dense) {
+                for (int i = 0; i < size; i++) {
+                    if (predicate.test((T) values[i])) {
+                        selection[selected++] = i;
+                    }
+                }
+                block.dense = selected == size;
+            } else {
+                for (int i = 0; i < size; i++) {
+                    int position = selection[i];
+                    if (predicate.test((T) values[position])) {
+                        selection[selected++] = position;
+                    }
+                }
+            }
+            block.size = selected;
+        });
+    }
+
+    /**
+     * @return a pipeline containing only elements for which {@param selector} returns a value between
+     * {@param from} and {@param to}, both inclusive. Elements with a `NaN` value are filtered out.
+     *
+     * The values of each block are extracted to a {@code double[]} and compared there, without calling a predicate
+     * per element.
+     */
+    public SekBlocks<T> filterBetween(ToDoubleFunction<? super T> selector, double from, double to) {
+        return then(block -> {
+            double[] buffer = block.doubles();
+            int size = block.extract(selector, buffer);
+            int[] selection = block.selection;
+            if (block.dense) {
+                for (int i = 0; i < size; i++) {
+                    selection[i] = i;
+                }
+            }
+            int selected = PrimitiveKernels.selectBetween(buffer, size, from, to, selection);
+            block.dense = block.dense && selected == size;
+            block.size = selected;
+        });
+    }
+
+    /**
+     * @return a pipeline containing the results of applying the given {@param transform} function to each element.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> SekBlocks<R> map(Function<? super T, ? extends R> transform) {
+        return then(block -> {
+            Object[] values = block.values;
+            int size = block.size;
+            if (block.dense) {
+                for (int i = 0; i < size; i++) {
+                    values[i] = transform.apply((T) values[i]);
+                }
+            } else {
+                int[] selection = block.selection;
+                for (int i = 0; i < size; i++) {
+                    int position = selection[i];
+                    values[position] = transform.apply((T) values[position]);
+                }
+            }
+        });
+    }
+
+    private <R> SekBlocks<R> then(Stage stage) {
+        Stage[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = stage;
+        return new SekBlocks<>(source, blockSize, next);
+    }
+
+    /**
+     * Performs the given {@param action} on each element.
+     *
+     * The operation is _terminal_.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        Cursor cursor = new Cursor();
+        Block block = cursor.block;
+        while (cursor.advance()) {
+            for (int i = 0; i < block.size; i++) {
+                action.accept((T) block.get(i));
+            }
+        }
+    }
+
+    /**
+     * @return the number of elements.
+     *
+     * The operation is _terminal_.
+     */
+    public int count() {
+        Cursor cursor = new Cursor();
+        int count = 0;
+        while (cursor.advance()) {
+            count += cursor.block.size;
+        }
+        return count;
+    }
+
+    /**
+     * Accumulates value starting with {@param initial} value and applying {@param operation} from left to right
+     * to current accumulator value and each element.
+     *
+     * The operation is _terminal_.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R fold(R initial, BiFunction<? super R, ? super T, ? extends R> operation) {
+        Cursor cursor = new Cursor();
+        Block block = cursor.block;
+        R accumulator = initial;
+        while (cursor.advance()) {
+            for (int i = 0; i < block.size; i++) {
+                accumulator = operation.apply(accumulator, (T) block.get(i));
+            }
+        }
+        return accumulator;
+    }
+
+    /**
+     * @return the sum of all values produced by {@param selector} function applied to each element.
+     *
+     * The values of each block are extracted to an {@code int[]} and summed there, see {@code sumByDouble}.
+     *
+     * The operation is _terminal_.
+     */
+    public int sumBy(ToIntFunction<? super T> selector) {
+        Cursor cursor = new Cursor();
+        int[] buffer = new int[blockSize];
+        int sum = 0;
+        while (cursor.advance()) {
+            sum += PrimitiveKernels.sum(buffer, cursor.block.extract(selector, buffer));
+        }
+        return sum;
+    }
+
+    /**
+     * @return the sum of all values produced by {@param selector} function applied to each element.
+     *
+     * The operation is _terminal_.
+     */
+    public long sumByLong(ToLongFunction<? super T> selector) {
+        Cursor cursor = new Cursor();
+        long[] buffer = new long[blockSize];
+        long sum = 0;
+        while (cursor.advance()) {
+            sum += PrimitiveKernels.sum(buffer, cursor.block.extract(selector, buffer));
+        }
+        return sum;
+    }
+
+    /**
+     * @return the sum of all values produced by {@param selector} function applied to each element.
+     *
+     * The values of each block are extracted to a {@code double[]} and summed there by several independent
+     * accumulators, so the result may differ in the last bits from {@code Sek.sumByDouble}.
+     *
+     * The operation is _terminal_.
+     */
+    public double sumByDouble(ToDoubleFunction<? super T> selector) {
+        Cursor cursor = new Cursor();
+        double[] buffer = new double[blockSize];
+        double sum = 0;
+        while (cursor.advance()) {
+            sum += PrimitiveKernels.sum(buffer, cursor.block.extract(selector, buffer));
+        }
+        return sum;
+    }
+
+    /**
+     * @return the largest value produced by {@param selector} function applied to each element,
+     * or `null` if there are no elements. If any value is `NaN` the result is `NaN`.
+     *
+     * The operation is _terminal_.
+     */
+    public Double maxOfOrNull(ToDoubleFunction<? super T> selector) {
+        Cursor cursor = new Cursor();
+        double[] buffer = new double[blockSize];
+        double max = Double.NEGATIVE_INFINITY;
+        boolean empty = true;
+        while (cursor.advance()) {
+            max = Math.max(max, PrimitiveKernels.max(buffer, cursor.block.extract(selector, buffer)));
+            empty = false;
+        }
+        return empty ? null : max;
+    }
+
+    /**
+     * @return the smallest value produced by {@param selector} function applied to each element,
+     * or `null` if there are no elements. If any value is `NaN` the result is `NaN`.
+     *
+     * The operation is _terminal_.
+     */
+    public Double minOfOrNull(ToDoubleFunction<? super T> selector) {
+        Cursor cursor = new Cursor();
+        double[] buffer = new double[blockSize];
+        double min = Double.POSITIVE_INFINITY;
+        boolean empty = true;
+        while (cursor.advance()) {
+            min = Math.min(min, PrimitiveKernels.min(buffer, cursor.block.extract(selector, buffer)));
+            empty = false;
+        }
+        return empty ? null : min;
+    }
+
+    /**
+     * @return a {@link List} containing all elements.
+     *
+     * The operation is _terminal_.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        List<T> list = new ArrayList<>();
+        Cursor cursor = new Cursor();
+        Block block = cursor.block;
+        while (cursor.advance()) {
+            for (int i = 0; i < block.size; i++) {
+                list.add((T) block.get(i));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * @return a {@link Sek} of the elements leaving this pipeline, which are still computed one block at a time.
+     */
+    public Sek<T> asSek() {
+        return () -> new AbstractIterator<T>() {
+            private final Cursor cursor = new Cursor();
+            private int index;
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected void computeNext() {
+                Block block = cursor.block;
+                if (index == block.size) {
+                    if (!cursor.advance()) {
+                        done();
+                        return;
+                    }
+                    index = 0;
+                }
+                setNext((T) block.get(index++));
+            }
+        };
+    }
+
+    /**
+     * A stage of the pipeline, which processes the selected elements of a block.
+     */
+    @FunctionalInterface
+    interface Stage {
+        void apply(Block block);
+    }
+
+    /**
+     * Up to {@code blockSize} elements, of which the first {@code size} positions listed in {@code selection} are selected.
+     * While no element has been filtered out the block is {@code dense}, and the selection is implicitly the identity.
+     */
+    static final class Block {
+        final Object[] values;
+        final int[] selection;
+        int size;
+        boolean dense;
+        private double[] doubles;
+
+        Block(int capacity) {
+            this.values = new Object[capacity];
+            this.selection = new int[capacity];
+        }
+
+        Object get(int index) {
+            return values[dense ? index : selection[index]];
+        }
+
+        /**
+         * @return a scratch array of the capacity of this block, for stages that work on primitive values.
+         */
+        double[] doubles() {
+            if (doubles == null) {
+                doubles = new double[values.length];
+            }
+            return doubles;
+        }
+
+        /**
+         * Writes the values of {@param selector} for the selected elements to the start of {@param buffer}.
+         *
+         * @return the number of values written.
+         */
+        @SuppressWarnings("unchecked")
+        <T> int extract(ToIntFunction<? super T> selector, int[] buffer) {
+            for (int i = 0; i < size; i++) {
+                buffer[i] = selector.applyAsInt((T) get(i));
+            }
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> int extract(ToLongFunction<? super T> selector, long[] buffer) {
+            for (int i = 0; i < size; i++) {
+                buffer[i] = selector.applyAsLong((T) get(i));
+            }
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> int extract(ToDoubleFunction<? super T> selector, double[] buffer) {
+            for (int i = 0; i < size; i++) {
+                buffer[i] = selector.applyAsDouble((T) get(i));
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Reads the source into a reusable block and runs the stages over it.
+     */
+    final class Cursor {
+        final Block block = new Block(blockSize);
+        private final List<?> list = source instanceof ListSek ? ((ListSek<?>) source).list : null;
+        private final Iterator<?> iterator = list == null ? source.iterator() : null;
+        private int offset;
+
+        /**
+         * Fills the block with the next elements of the source and runs the stages over them,
+         * skipping blocks that end up empty.
+         *
+         * @return `false` if the source is exhausted.
+         */
+        boolean advance() {
+            while (fill()) {
+                for (int i = 0; i < stages.length && block.size > 0; i++) {
+                    stages[i].apply(block);
+                }
+                if (block.size > 0) {
+                    return true;
+                }
+            }
+            Arrays.fill(block.values, null);
+            block.size = 0;
+            return false;
+        }
+
+        private boolean fill() {
+            Object[] values = block.values;
+            int size = 0;
+            if (list != null) {
+                size = Math.min(values.length, list.size() - offset);
+                for (int i = 0; i < size; i++) {
+                    values[i] = list.get(offset + i);
+                }
+                offset += size;
+            } else {
+                while (size < values.length && iterator.hasNext()) {
+                    values[size++] = iterator.next();
+                }
+            }
+            block.size = size;
+            block.dense = true;
+            return size > 0;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.tinyield;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.ToLongFunction;
+
+/**
+ * A Bloom filter that tests whether a value may have been added to it using a fixed amount of memory.
+ *
+ * <p>Tests never return false negatives, but may return false positives with a probability that depends on
+ * the number of bits per added value: for instance, about 9.6 bits per value give a false positive rate of 1%,
+ * so a filter of 100 million values takes about 120MB instead of several GB for a {@link java.util.HashSet}.
+ *
+ * <p>Filters with the same number of bits and hash functions can be merged, so that they can be built over
+ * several sequences, or parts of a sequence, and then combined.
+ */
+public final class SekBloomFilter {
+
+    /**
+     * Largest supported number of bits.
+     */
+    public static final long MAX_BITS = (long) (Integer.MAX_VALUE - 8) * Long.SIZE;
+
+    private final long[] words;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions the number of distinct values expected to be added to this filter
+     * @param falsePositiveRate  the desired probability of false positives once {@param expectedInsertions}
+     *                           values are added, between 0 and 1 exclusive
+     * @throws IllegalArgumentException if an argument is out of range or the filter would need more than
+     *                                  {@link #MAX_BITS} bits.
+     */
+    public SekBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 0) {
+            throw new IllegalArgumentException("Expected insertions " + expectedInsertions + " is less than zero.");
+        }
+        if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+            throw new IllegalArgumentException("False positive rate " + falsePositiveRate + " is not in the interval (0, 1).");
+        }
+        long n = Math.max(expectedInsertions, 1);
+        double bits = Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        if (bits > MAX_BITS) {
+            throw new IllegalArgumentException("A filter of " + expectedInsertions + " values with a false positive rate of "
+                    + falsePositiveRate + " needs more than " + MAX_BITS + " bits.");
+        }
+        this.words = new long[(int) (((long) bits + Long.SIZE - 1) / Long.SIZE)];
+        this.bitSize = (long) words.length * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round(bitSize / (double) n * Math.log(2)));
+    }
+
+    /**
+     * @return a filter sized for, and holding, all the given {@param values}, with the given {@param falsePositiveRate}.
+     *
+     * {@param values} is iterated twice, to count and then to add them, unless it is a {@link Collection}.
+     */
+    public static SekBloomFilter of(Iterable<?> values, double falsePositiveRate) {
+        return new SekBloomFilter(sizeOf(values), falsePositiveRate).addAll(values);
+    }
+
+    /**
+     * @return a filter sized for, and holding, the long keys returned by {@param keySelector} for all the given {@param values},
+     * with the given {@param falsePositiveRate}.
+     *
+     * {@param keySelector} can be a 64-bit hash function of the values, see {@code add}.
+     */
+    public static <T> SekBloomFilter of(Iterable<? extends T> values, double falsePositiveRate, ToLongFunction<? super T> keySelector) {
+        SekBloomFilter filter = new SekBloomFilter(sizeOf(values), falsePositiveRate);
+        for (T value : values) {
+            filter.addLong(keySelector.applyAsLong(value));
+        }
+        return filter;
+    }
+
+    /**
+     * @return the number of bits of this filter.
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * @return the number of bits set, or tested, for each value.
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Adds {@param value} to this filter.
+     *
+     * Numbers, characters, strings and {@link java.util.UUID}s are hashed from their full contents into 64 bits.
+     * Other values are hashed from their {@code hashCode()}, whose 32 bits raise the false positive rate of filters of
+     * hundreds of millions of values above the configured one: such values should rather be added with {@code addHash}
+     * or {@code addLong} from a 64-bit hash, see {@code of(Iterable, double, ToLongFunction)}.
+     */
+    public SekBloomFilter add(Object value) {
+        return addHash(Hashing.hash64(value));
+    }
+
+    /**
+     * Adds the int {@param value} to this filter without boxing it.
+     */
+    public SekBloomFilter addInt(int value) {
+        return addHash(Hashing.mix((long) value));
+    }
+
+    /**
+     * Adds the long {@param value} to this filter without boxing it.
+     */
+    public SekBloomFilter addLong(long value) {
+        return addHash(Hashing.mix(value));
+    }
+
+    /**
+     * Adds all the given {@param values} to this filter.
+     */
+    public SekBloomFilter addAll(Iterable<?> values) {
+        for (Object value : values) {
+            add(value);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a value given by its 64-bit {@param hash}, which must be uniformly distributed over all bits.
+     */
+    public SekBloomFilter addHash(long hash) {
+        long step = step(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (hash & Long.MAX_VALUE) % bitSize;
+            words[(int) (bit >>> 6)] |= 1L << bit;
+            hash += step;
+        }
+        return this;
+    }
+
+    /**
+     * @return `false` if {@param value} was definitely not added to this filter, or `true` if it might have been.
+     */
+    public boolean mightContain(Object value) {
+        return mightContainHash(Hashing.hash64(value));
+    }
+
+    /**
+     * @return `false` if the int {@param value} was definitely not added to this filter, or `true` if it might have been.
+     */
+    public boolean mightContainInt(int value) {
+        return mightContainHash(Hashing.mix((long) value));
+    }
+
+    /**
+     * @return `false` if the long {@param value} was definitely not added to this filter, or `true` if it might have been.
+     */
+    public boolean mightContainLong(long value) {
+        return mightContainHash(Hashing.mix(value));
+    }
+
+    /**
+     * @return `false` if no value with the given 64-bit {@param hash} was added to this filter, or `true` if one might have been.
+     */
+    public boolean mightContainHash(long hash) {
+        long step = step(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (hash & Long.MAX_VALUE) % bitSize;
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+            hash += step;
+        }
+        return true;
+    }
+
+    /**
+     * Merges {@param other} into this filter, which then might contain the values added to either of them.
+     *
+     * @throws IllegalArgumentException if the filters have different sizes or numbers of hash functions.
+     */
+    public SekBloomFilter merge(SekBloomFilter other) {
+        if (other.bitSize != bitSize || other.hashCount != hashCount) {
+            throw new IllegalArgumentException("Cannot merge filters of " + bitSize + " bits and " + hashCount
+                    + " hashes with filters of " + other.bitSize + " bits and " + other.hashCount + " hashes.");
+        }
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * @return the probability that {@code mightContain} returns `true` for a value that was not added,
+     * estimated from the proportion of bits that are set.
+     */
+    public double expectedFalsePositiveRate() {
+        long set = 0;
+        for (long word : words) {
+            set += Long.bitCount(word);
+        }
+        return Math.pow((double) set / bitSize, hashCount);
+    }
+
+    private static long sizeOf(Iterable<?> values) {
+        if (values instanceof Collection) {
+            return ((Collection<?>) values).size();
+        }
+        long size = 0;
+        for (Iterator<?> iterator = values.iterator(); iterator.hasNext(); iterator.next()) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * @return the increment between the successive bit positions of a value, derived from a second hash
+     * of {@param hash} as in the double hashing scheme of Kirsch and Mitzenmacher.
+     */
+    private static long step(long hash) {
+        return Hashing.mix(hash ^ 0x9e3779b97f4a7c15L) | 1L;
+    }
+}
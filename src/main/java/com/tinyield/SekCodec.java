@@ -0,0 +1,230 @@
+package com.tinyield;
+
+import kotlin.Pair;
+import kotlin.collections.IndexedValue;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * Encodes elements of a {@link Sek} into a {@link ByteBuffer} and decodes them back.
+ *
+ * <p>A codec is either _fixed-width_, when every value takes exactly {@link #width()} bytes,
+ * or _variable-width_, when {@link #width()} returns {@link #VARIABLE_WIDTH} and the size of each
+ * encoded value is given by {@link #sizeOf(Object)}.
+ *
+ * <p>Codecs read and write at the current position of the buffer, advancing it by the number of bytes
+ * consumed or produced, and respect the buffer's {@link java.nio.ByteOrder}.
+ *
+ * @param <T> the type of the values handled by this codec
+ */
+public interface SekCodec<T> {
+
+    /**
+     * Value returned by {@link #width()} for codecs whose encoded values do not all have the same size.
+     */
+    int VARIABLE_WIDTH = -1;
+
+    /**
+     * Writes the given {@param value} at the current position of the {@param destination} buffer.
+     *
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in {@param destination}.
+     */
+    void write(ByteBuffer destination, T value);
+
+    /**
+     * @return the value read from the current position of the {@param source} buffer.
+     *
+     * @throws java.nio.BufferUnderflowException if there are not enough bytes remaining in {@param source}.
+     */
+    T read(ByteBuffer source);
+
+    /**
+     * @return the number of bytes taken by every encoded value, or {@link #VARIABLE_WIDTH}
+     * if encoded values may have different sizes.
+     */
+    default int width() {
+        return VARIABLE_WIDTH;
+    }
+
+    /**
+     * @return `true` if every encoded value takes exactly {@link #width()} bytes.
+     */
+    default boolean isFixedWidth() {
+        return width() != VARIABLE_WIDTH;
+    }
+
+    /**
+     * @return the number of bytes that {@link #write(ByteBuffer, Object)} produces for the given {@param value}.
+     *
+     * Variable-width codecs should override this method, since the default implementation
+     * has to encode the value into a scratch buffer to measure it.
+     */
+    default int sizeOf(T value) {
+        if (isFixedWidth()) {
+            return width();
+        }
+        int capacity = 64;
+        while (true) {
+            ByteBuffer scratch = ByteBuffer.allocate(capacity);
+            try {
+                write(scratch, value);
+                return scratch.position();
+            } catch (BufferOverflowException e) {
+                capacity <<= 1;
+            }
+        }
+    }
+
+    /**
+     * @return a codec for values of type {@code R} that are converted to and from values of this codec,
+     * using {@param encode} before writing and {@param decode} after reading.
+     */
+    default <R> SekCodec<R> map(Function<? super T, ? extends R> decode, Function<? super R, ? extends T> encode) {
+        return new SekCodecs.Mapped<>(this, decode, encode);
+    }
+
+    /**
+     * @return a fixed-width codec that takes 1 byte per value, where `true` is encoded as 1 and `false` as 0.
+     */
+    static SekCodec<Boolean> ofBoolean() {
+        return SekCodecs.BOOLEAN;
+    }
+
+    /**
+     * @return a fixed-width codec that takes 1 byte per value.
+     */
+    static SekCodec<Byte> ofByte() {
+        return SekCodecs.BYTE;
+    }
+
+    /**
+     * @return a fixed-width codec that takes 2 bytes per value.
+     */
+    static SekCodec<Character> ofChar() {
+        return SekCodecs.CHAR;
+    }
+
+    /**
+     * @return a fixed-width codec that takes 2 bytes per value.
+     */
+    static SekCodec<Short> ofShort() {
+        return SekCodecs.SHORT;
+    }
+
+    /**
+     * @return a fixed-width codec that takes 4 bytes per value.
+     */
+    static SekCodec<Integer> ofInt() {
+        return SekCodecs.INT;
+    }
+
+    /**
+     * @return a fixed-width codec that takes 8 bytes per value.
+     */
+    static SekCodec<Long> ofLong() {
+        return SekCodecs.LONG;
+    }
+
+    /**
+     * @return a fixed-width codec that takes 4 bytes per value.
+     */
+    static SekCodec<Float> ofFloat() {
+        return SekCodecs.FLOAT;
+    }
+
+    /**
+     * @return a fixed-width codec that takes 8 bytes per value.
+     */
+    static SekCodec<Double> ofDouble() {
+        return SekCodecs.DOUBLE;
+    }
+
+    /**
+     * @return a variable-width codec that writes each string as its UTF-8 encoded length, as a variable-length
+     * integer, followed by its UTF-8 encoded bytes.
+     *
+     * `null` strings are supported and take a single byte.
+     */
+    static SekCodec<String> ofString() {
+        return SekCodecs.UTF8;
+    }
+
+    /**
+     * @return a codec for {@link Pair}s that writes the first component with {@param first} followed by
+     * the second component with {@param second}.
+     *
+     * The resulting codec is fixed-width if both {@param first} and {@param second} are fixed-width.
+     */
+    static <A, B> SekCodec<Pair<A, B>> ofPair(SekCodec<A> first, SekCodec<B> second) {
+        return ofRecord(
+                values -> new Pair<>(SekCodecs.<A>cast(values[0]), SekCodecs.<B>cast(values[1])),
+                field(first, Pair::getFirst),
+                field(second, Pair::getSecond));
+    }
+
+    /**
+     * @return a codec for {@link IndexedValue}s that writes the index as a 4 byte integer followed by
+     * the value written with {@param value}.
+     *
+     * The resulting codec is fixed-width if {@param value} is fixed-width.
+     */
+    static <T> SekCodec<IndexedValue<T>> ofIndexedValue(SekCodec<T> value) {
+        return ofRecord(
+                values -> new IndexedValue<>((Integer) values[0], SekCodecs.<T>cast(values[1])),
+                field(ofInt(), IndexedValue::getIndex),
+                field(value, IndexedValue::getValue));
+    }
+
+    /**
+     * @return a codec for composite records that writes each of the given {@param fields} in order and
+     * rebuilds the record by passing the decoded field values, in the same order, to {@param constructor}.
+     *
+     * The resulting codec is fixed-width if all of the given {@param fields} are fixed-width.
+     *
+     * @throws IllegalArgumentException if no {@param fields} are given.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // fields is copied, and the copy is only read by the record codec
+    static <T> SekCodec<T> ofRecord(Function<Object[], ? extends T> constructor, Field<T, ?>... fields) {
+        if (fields.length == 0) {
+            throw new IllegalArgumentException("A record codec needs at least one field.");
+        }
+        return new SekCodecs.Record<>(constructor, fields.clone());
+    }
+
+    /**
+     * @return a field of a composite record whose value is obtained with {@param getter} and encoded with {@param codec}.
+     *
+     * see {@code ofRecord}
+     */
+    static <T, F> Field<T, F> field(SekCodec<F> codec, Function<? super T, ? extends F> getter) {
+        return new Field<>(codec, getter);
+    }
+
+    /**
+     * A field of a composite record, pairing the codec of the field with the function
+     * that extracts its value from the record.
+     *
+     * @param <T> the type of the record
+     * @param <F> the type of the field
+     */
+    final class Field<T, F> {
+        final SekCodec<F> codec;
+        final Function<? super T, ? extends F> getter;
+
+        private Field(SekCodec<F> codec, Function<? super T, ? extends F> getter) {
+            this.codec = codec;
+            this.getter = getter;
+        }
+
+        void write(ByteBuffer destination, T record) {
+            codec.write(destination, getter.apply(record));
+        }
+
+        int sizeOf(T record) {
+            return codec.sizeOf(getter.apply(record));
+        }
+    }
+}
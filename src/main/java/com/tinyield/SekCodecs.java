@@ -0,0 +1,344 @@
+package com.tinyield;
+
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Built-in {@link SekCodec} implementations.
+ */
+final class SekCodecs {
+
+    static final SekCodec<Boolean> BOOLEAN = new Fixed<Boolean>(1) {
+        @Override
+        public void write(ByteBuffer destination, Boolean value) {
+            destination.put(value ? (byte) 1 : (byte) 0);
+        }
+
+        @Override
+        public Boolean read(ByteBuffer source) {
+            return source.get() != 0;
+        }
+    };
+
+    static final SekCodec<Byte> BYTE = new Fixed<Byte>(Byte.BYTES) {
+        @Override
+        public void write(ByteBuffer destination, Byte value) {
+            destination.put(value);
+        }
+
+        @Override
+        public Byte read(ByteBuffer source) {
+            return source.get();
+        }
+    };
+
+    static final SekCodec<Character> CHAR = new Fixed<Character>(Character.BYTES) {
+        @Override
+        public void write(ByteBuffer destination, Character value) {
+            destination.putChar(value);
+        }
+
+        @Override
+        public Character read(ByteBuffer source) {
+            return source.getChar();
+        }
+    };
+
+    static final SekCodec<Short> SHORT = new Fixed<Short>(Short.BYTES) {
+        @Override
+        public void write(ByteBuffer destination, Short value) {
+            destination.putShort(value);
+        }
+
+        @Override
+        public Short read(ByteBuffer source) {
+            return source.getShort();
+        }
+    };
+
+    static final SekCodec<Integer> INT = new Fixed<Integer>(Integer.BYTES) {
+        @Override
+        public void write(ByteBuffer destination, Integer value) {
+            destination.putInt(value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer source) {
+            return source.getInt();
+        }
+    };
+
+    static final SekCodec<Long> LONG = new Fixed<Long>(Long.BYTES) {
+        @Override
+        public void write(ByteBuffer destination, Long value) {
+            destination.putLong(value);
+        }
+
+        @Override
+        public Long read(ByteBuffer source) {
+            return source.getLong();
+        }
+    };
+
+    static final SekCodec<Float> FLOAT = new Fixed<Float>(Float.BYTES) {
+        @Override
+        public void write(ByteBuffer destination, Float value) {
+            destination.putFloat(value);
+        }
+
+        @Override
+        public Float read(ByteBuffer source) {
+            return source.getFloat();
+        }
+    };
+
+    static final SekCodec<Double> DOUBLE = new Fixed<Double>(Double.BYTES) {
+        @Override
+        public void write(ByteBuffer destination, Double value) {
+            destination.putDouble(value);
+        }
+
+        @Override
+        public Double read(ByteBuffer source) {
+            return source.getDouble();
+        }
+    };
+
+    static final SekCodec<String> UTF8 = new Utf8();
+
+    private SekCodecs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    /**
+     * Writes {@param value} as an unsigned LEB128 variable-length integer.
+     */
+    static void writeVarInt(ByteBuffer destination, int value) {
+        while ((value & ~0x7F) != 0) {
+            destination.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        destination.put((byte) value);
+    }
+
+    static int readVarInt(ByteBuffer source) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = source.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed variable-length integer");
+    }
+
+    static int sizeOfVarInt(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    abstract static class Fixed<T> implements SekCodec<T> {
+        private final int width;
+
+        Fixed(int width) {
+            this.width = width;
+        }
+
+        @Override
+        public final int width() {
+            return width;
+        }
+
+        @Override
+        public final int sizeOf(T value) {
+            return width;
+        }
+    }
+
+    /**
+     * Encodes strings as UTF-8 directly into the buffer, without an intermediate byte array.
+     * The length prefix is the encoded length plus one, so that 0 can stand for `null`.
+     */
+    static final class Utf8 implements SekCodec<String> {
+
+        @Override
+        public void write(ByteBuffer destination, String value) {
+            if (value == null) {
+                writeVarInt(destination, 0);
+                return;
+            }
+            writeVarInt(destination, encodedLength(value) + 1);
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    destination.put((byte) c);
+                } else if (c < 0x800) {
+                    destination.put((byte) (0xC0 | (c >> 6)));
+                    destination.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    destination.put((byte) (0xF0 | (codePoint >> 18)));
+                    destination.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    destination.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    destination.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else if (Character.isSurrogate(c)) {
+                    destination.put((byte) '?');
+                } else {
+                    destination.put((byte) (0xE0 | (c >> 12)));
+                    destination.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    destination.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+        }
+
+        @Override
+        public String read(ByteBuffer source) {
+            int length = readVarInt(source) - 1;
+            if (length < 0) {
+                return null;
+            }
+            int position = source.position();
+            if (length > source.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            String value;
+            if (source.hasArray()) {
+                value = new String(source.array(), source.arrayOffset() + position, length, StandardCharsets.UTF_8);
+                ((Buffer) source).position(position + length);
+            } else {
+                byte[] bytes = new byte[length];
+                source.get(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+
+        @Override
+        public int sizeOf(String value) {
+            if (value == null) {
+                return 1;
+            }
+            int length = encodedLength(value);
+            return sizeOfVarInt(length + 1) + length;
+        }
+
+        private static int encodedLength(String value) {
+            int length = value.length();
+            int size = 0;
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    size += 1;
+                } else if (c < 0x800) {
+                    size += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    size += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    size += 1;
+                } else {
+                    size += 3;
+                }
+            }
+            return size;
+        }
+    }
+
+    static final class Mapped<T, R> implements SekCodec<R> {
+        private final SekCodec<T> codec;
+        private final Function<? super T, ? extends R> decode;
+        private final Function<? super R, ? extends T> encode;
+
+        Mapped(SekCodec<T> codec, Function<? super T, ? extends R> decode, Function<? super R, ? extends T> encode) {
+            this.codec = codec;
+            this.decode = decode;
+            this.encode = encode;
+        }
+
+        @Override
+        public void write(ByteBuffer destination, R value) {
+            codec.write(destination, encode.apply(value));
+        }
+
+        @Override
+        public R read(ByteBuffer source) {
+            return decode.apply(codec.read(source));
+        }
+
+        @Override
+        public int width() {
+            return codec.width();
+        }
+
+        @Override
+        public int sizeOf(R value) {
+            return codec.isFixedWidth() ? codec.width() : codec.sizeOf(encode.apply(value));
+        }
+    }
+
+    static final class Record<T> implements SekCodec<T> {
+        private final Function<Object[], ? extends T> constructor;
+        private final SekCodec.Field<T, ?>[] fields;
+        private final int width;
+
+        Record(Function<Object[], ? extends T> constructor, SekCodec.Field<T, ?>[] fields) {
+            this.constructor = constructor;
+            this.fields = fields;
+            int total = 0;
+            for (SekCodec.Field<T, ?> field : fields) {
+                if (!field.codec.isFixedWidth()) {
+                    total = VARIABLE_WIDTH;
+                    break;
+                }
+                total += field.codec.width();
+            }
+            this.width = total;
+        }
+
+        @Override
+        public void write(ByteBuffer destination, T value) {
+            for (SekCodec.Field<T, ?> field : fields) {
+                field.write(destination, value);
+            }
+        }
+
+        @Override
+        public T read(ByteBuffer source) {
+            Object[] values = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = fields[i].codec.read(source);
+            }
+            return constructor.apply(values);
+        }
+
+        @Override
+        public int width() {
+            return width;
+        }
+
+        @Override
+        public int sizeOf(T value) {
+            if (width != VARIABLE_WIDTH) {
+                return width;
+            }
+            int size = 0;
+            for (SekCodec.Field<T, ?> field : fields) {
+                size += field.sizeOf(value);
+            }
+            return size;
+        }
+    }
+}
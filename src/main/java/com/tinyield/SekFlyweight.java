@@ -0,0 +1,112 @@
+package com.tinyield;
+
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+
+/**
+ * A reusable view over one fixed-width binary record of a {@link ByteBuffer}.
+ *
+ * <p>Sequences created with {@code Sek.ofRecords} yield a single instance of a flyweight per iteration,
+ * which is repositioned over each record in turn instead of allocating a new object per record.
+ * Subclasses expose the fields of the record through accessors that read at offsets relative to the
+ * start of the current record, for instance:
+ *
+ * <pre>{@code
+ * class Tick extends SekFlyweight<Tick> {
+ *     long timestamp() { return getLong(0); }
+ *     double price()   { return getDouble(8); }
+ * }
+ * }</pre>
+ *
+ * <p>A flyweight is only valid until the iterator that yielded it advances. Use {@link #copy()} to obtain
+ * an instance that owns a snapshot of the current record and can safely escape the pipeline.
+ *
+ * @param <F> the concrete type of the flyweight
+ */
+public abstract class SekFlyweight<F extends SekFlyweight<F>> {
+
+    private Supplier<? extends F> factory;
+    private ByteBuffer buffer;
+    private int offset;
+    private int width;
+
+    /**
+     * @return a new flyweight over a private copy of the bytes of the current record.
+     * <p>
+     * The returned instance is not affected by further iteration of the sequence that yielded this flyweight.
+     */
+    public F copy() {
+        byte[] bytes = new byte[width];
+        for (int i = 0; i < width; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return wrap(factory, ByteBuffer.wrap(bytes).order(buffer.order()), 0, width);
+    }
+
+    /**
+     * @return the buffer holding the current record.
+     */
+    protected final ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * @return the absolute index, in {@link #buffer()}, of the first byte of the current record.
+     */
+    protected final int offset() {
+        return offset;
+    }
+
+    /**
+     * @return the number of bytes of each record.
+     */
+    public final int width() {
+        return width;
+    }
+
+    protected final byte getByte(int fieldOffset) {
+        return buffer.get(offset + fieldOffset);
+    }
+
+    protected final char getChar(int fieldOffset) {
+        return buffer.getChar(offset + fieldOffset);
+    }
+
+    protected final short getShort(int fieldOffset) {
+        return buffer.getShort(offset + fieldOffset);
+    }
+
+    protected final int getInt(int fieldOffset) {
+        return buffer.getInt(offset + fieldOffset);
+    }
+
+    protected final long getLong(int fieldOffset) {
+        return buffer.getLong(offset + fieldOffset);
+    }
+
+    protected final float getFloat(int fieldOffset) {
+        return buffer.getFloat(offset + fieldOffset);
+    }
+
+    protected final double getDouble(int fieldOffset) {
+        return buffer.getDouble(offset + fieldOffset);
+    }
+
+    /**
+     * Repositions this flyweight over the record starting at the absolute index {@param offset} of {@param buffer}.
+     */
+    @SuppressWarnings("unchecked")
+    final F moveTo(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        return (F) this;
+    }
+
+    static <F extends SekFlyweight<F>> F wrap(Supplier<? extends F> factory, ByteBuffer buffer, int offset, int width) {
+        F flyweight = factory.get();
+        SekFlyweight<F> base = flyweight;
+        base.factory = factory;
+        base.width = width;
+        return base.moveTo(buffer, offset);
+    }
+}
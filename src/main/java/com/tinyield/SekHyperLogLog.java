@@ -0,0 +1,133 @@
+package com.tinyield;
+
+/**
+ * A HyperLogLog sketch that estimates the number of distinct values added to it using a fixed amount of memory.
+ *
+ * <p>The sketch keeps 2^precision registers of one byte each, and its estimates have a relative standard error
+ * of about {@code 1.04 / sqrt(2^precision)}: a precision of 14 uses 16KB and has an error of about 0.8%.
+ *
+ * <p>Sketches with the same precision can be merged, so that distinct values can be counted over several
+ * sequences, or parts of a sequence, and then combined.
+ */
+public final class SekHyperLogLog {
+
+    /**
+     * Smallest supported precision.
+     */
+    public static final int MIN_PRECISION = 4;
+
+    /**
+     * Largest supported precision.
+     */
+    public static final int MAX_PRECISION = 18;
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * @param precision the number of bits of each hash used to select a register, between
+     *                  {@link #MIN_PRECISION} and {@link #MAX_PRECISION}
+     * @throws IllegalArgumentException if {@param precision} is out of range.
+     */
+    public SekHyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision " + precision + " is not between " + MIN_PRECISION + " and " + MAX_PRECISION + ".");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * @return the precision of this sketch.
+     */
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * Adds {@param value} to this sketch.
+     *
+     * Numbers, characters, strings and {@link java.util.UUID}s are hashed from their full contents into 64 bits.
+     * Other values are hashed from their {@code hashCode()}, which only has 32 bits: beyond about a hundred million distinct
+     * values, such values should rather be added with {@code addHash} or {@code addLong} from a 64-bit hash.
+     */
+    public SekHyperLogLog add(Object value) {
+        return addHash(Hashing.hash64(value));
+    }
+
+    /**
+     * Adds the int {@param value} to this sketch without boxing it.
+     */
+    public SekHyperLogLog addInt(int value) {
+        return addHash(Hashing.mix((long) value));
+    }
+
+    /**
+     * Adds the long {@param value} to this sketch without boxing it.
+     */
+    public SekHyperLogLog addLong(long value) {
+        return addHash(Hashing.mix(value));
+    }
+
+    /**
+     * Adds a value given by its 64-bit {@param hash}, which must be uniformly distributed over all bits.
+     */
+    public SekHyperLogLog addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+        return this;
+    }
+
+    /**
+     * Merges {@param other} into this sketch, which then estimates the distinct values added to either of them.
+     *
+     * @throws IllegalArgumentException if the sketches have different precisions.
+     */
+    public SekHyperLogLog merge(SekHyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches with precisions " + precision + " and " + other.precision + ".");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return the estimated number of distinct values added to this sketch.
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+}
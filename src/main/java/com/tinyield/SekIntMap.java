@@ -0,0 +1,119 @@
+package com.tinyield;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A read-only map from {@code int} keys to values, backed by an open addressing hash table
+ * so that keys are never boxed.
+ *
+ * <p>Instances are produced by operations of {@link Sek} such as {@code groupByInt}, and iterate their
+ * entries in the order the keys were first seen.
+ *
+ * @param <V> the type of the values
+ */
+public final class SekIntMap<V> {
+
+    private final IntIndex index = new IntIndex();
+    private Object[] values = new Object[16];
+
+    SekIntMap() {
+    }
+
+    /**
+     * @return the value associated with {@param key}, adding the one returned by {@param defaultValue} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    V getOrPut(int key, Supplier<? extends V> defaultValue) {
+        int entry = index.add(key);
+        if (entry == values.length) {
+            values = Arrays.copyOf(values, entry << 1);
+        }
+        Object value = values[entry];
+        if (value == null) {
+            value = defaultValue.get();
+            values[entry] = value;
+        }
+        return (V) value;
+    }
+
+    /**
+     * @return the number of keys in this map.
+     */
+    public int size() {
+        return index.size;
+    }
+
+    /**
+     * @return `true` if this map has no keys.
+     */
+    public boolean isEmpty() {
+        return index.size == 0;
+    }
+
+    /**
+     * @return `true` if this map has a value for the given {@param key}.
+     */
+    public boolean containsKey(int key) {
+        return index.indexOf(key) >= 0;
+    }
+
+    /**
+     * @return the value associated with the given {@param key}, or `null` if there is none.
+     */
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * @return the value associated with the given {@param key}, or {@param defaultValue} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue) {
+        int entry = index.indexOf(key);
+        return entry < 0 ? defaultValue : (V) values[entry];
+    }
+
+    /**
+     * @return a new array with the keys of this map, in the order they were first seen.
+     */
+    public int[] keys() {
+        return Arrays.copyOf(index.keys, index.size);
+    }
+
+    /**
+     * Performs the given {@param action} on each entry of this map, in the order the keys were first seen.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        for (int entry = 0; entry < index.size; entry++) {
+            action.accept(index.keys[entry], (V) values[entry]);
+        }
+    }
+
+    /**
+     * @return a new {@link Map} with boxed keys holding the same entries, in the same order.
+     */
+    public Map<Integer, V> toMap() {
+        Map<Integer, V> map = new LinkedHashMap<>(Hashing.capacityFor(index.size, 0.75f));
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    /**
+     * An action performed on an entry of a {@link SekIntMap}.
+     *
+     * @param <V> the type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+}
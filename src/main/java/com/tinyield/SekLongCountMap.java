@@ -0,0 +1,99 @@
+package com.tinyield;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A read-only map from {@code long} keys to {@code long} counts, backed by an open addressing hash table
+ * so that neither keys nor counts are ever boxed.
+ *
+ * <p>Instances are produced by operations of {@link Sek} such as {@code countByLong}, and iterate their
+ * entries in the order the keys were first seen.
+ */
+public final class SekLongCountMap {
+
+    private final LongIndex index = new LongIndex();
+    private long[] counts = new long[16];
+
+    SekLongCountMap() {
+    }
+
+    /**
+     * Adds one to the count of {@param key}.
+     */
+    void increment(long key) {
+        int entry = index.add(key);
+        if (entry == counts.length) {
+            counts = Arrays.copyOf(counts, entry << 1);
+        }
+        counts[entry]++;
+    }
+
+    /**
+     * @return the number of keys in this map.
+     */
+    public int size() {
+        return index.size;
+    }
+
+    /**
+     * @return `true` if this map has no keys.
+     */
+    public boolean isEmpty() {
+        return index.size == 0;
+    }
+
+    /**
+     * @return `true` if this map has a count for the given {@param key}.
+     */
+    public boolean containsKey(long key) {
+        return index.indexOf(key) >= 0;
+    }
+
+    /**
+     * @return the count of the given {@param key}, or 0 if there is none.
+     */
+    public long get(long key) {
+        int entry = index.indexOf(key);
+        return entry < 0 ? 0 : counts[entry];
+    }
+
+    /**
+     * @return a new array with the keys of this map, in the order they were first seen.
+     */
+    public long[] keys() {
+        return Arrays.copyOf(index.keys, index.size);
+    }
+
+    /**
+     * Performs the given {@param action} on each entry of this map, in the order the keys were first seen.
+     */
+    public void forEach(EntryConsumer action) {
+        for (int entry = 0; entry < index.size; entry++) {
+            action.accept(index.keys[entry], counts[entry]);
+        }
+    }
+
+    /**
+     * @return a new {@link Map} with boxed keys and counts holding the same entries, in the same order.
+     */
+    public Map<Long, Long> toMap() {
+        Map<Long, Long> map = new LinkedHashMap<>(Hashing.capacityFor(index.size, 0.75f));
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    /**
+     * An action performed on an entry of a {@link SekLongCountMap}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long count);
+    }
+}
@@ -0,0 +1,252 @@
+package com.tinyield;
+
+import java.util.Arrays;
+
+/**
+ * A KLL sketch that estimates the quantiles of a stream of doubles using bounded memory.
+ *
+ * <p>Values are kept in a hierarchy of compactors, where each value of level h stands for 2^h values of the stream.
+ * When the sketch exceeds its capacity, the fullest lowest level is sorted and every other value is promoted to the
+ * next level. The number of retained values grows only with the logarithm of the number of values added, and the
+ * rank error of the estimates is about {@code 1.7 / k}: the default {@code k} of 200 gives an error below 1%.
+ *
+ * <p>Sketches with the same {@code k} can be merged, so that quantiles can be computed over several
+ * sequences, or parts of a sequence, and then combined.
+ */
+public final class SekQuantileSketch {
+
+    /**
+     * Default value of {@code k}, which bounds the size of the top level compactor.
+     */
+    public static final int DEFAULT_K = 200;
+
+    private static final int MIN_WIDTH = 8;
+
+    private final int k;
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    private int retained;
+    private int capacity;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private long seed = 0x9e3779b97f4a7c15L;
+
+    public SekQuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * @param k bounds the size of the top level compactor, larger values give more accurate estimates
+     * @throws IllegalArgumentException if {@param k} is less than 8.
+     */
+    public SekQuantileSketch(int k) {
+        if (k < MIN_WIDTH) {
+            throw new IllegalArgumentException("k must be at least " + MIN_WIDTH + ", but was " + k + ".");
+        }
+        this.k = k;
+        this.levels[0] = new double[capacity(0)];
+        this.capacity = capacity(0);
+    }
+
+    /**
+     * @return the number of values added to this sketch.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return the smallest value added to this sketch, or `NaN` if it is empty.
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * @return the largest value added to this sketch, or `NaN` if it is empty.
+     */
+    public double max() {
+        return max;
+    }
+
+    /**
+     * Adds {@param value} to this sketch. `NaN` values are ignored.
+     */
+    public SekQuantileSketch add(double value) {
+        if (Double.isNaN(value)) {
+            return this;
+        }
+        if (count++ == 0) {
+            min = max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        append(0, value);
+        compress();
+        return this;
+    }
+
+    /**
+     * Merges {@param other} into this sketch, which then estimates the quantiles of the values added to either of them.
+     *
+     * @throws IllegalArgumentException if the sketches have different values of {@code k}.
+     */
+    public SekQuantileSketch merge(SekQuantileSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge sketches with k " + k + " and " + other.k + ".");
+        }
+        if (other.count == 0) {
+            return this;
+        }
+        for (int level = 0; level < other.levels.length; level++) {
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        min = count == 0 ? other.min : Math.min(min, other.min);
+        max = count == 0 ? other.max : Math.max(max, other.max);
+        count += other.count;
+        compress();
+        return this;
+    }
+
+    /**
+     * @return the estimated fraction of the values added to this sketch that are less than or equal to {@param value}.
+     */
+    public double rank(double value) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long weight = 0;
+        for (int level = 0; level < levels.length; level++) {
+            for (int i = 0; i < sizes[level]; i++) {
+                if (levels[level][i] <= value) {
+                    weight += 1L << level;
+                }
+            }
+        }
+        return (double) weight / count;
+    }
+
+    /**
+     * @return the estimated value at the given {@param q} quantile, or `NaN` if this sketch is empty.
+     * @throws IllegalArgumentException if {@param q} is not between 0 and 1.
+     */
+    public double quantile(double q) {
+        return quantiles(q)[0];
+    }
+
+    /**
+     * @return the estimated values at each of the given {@param qs} quantiles, or `NaN` values if this sketch is empty.
+     * @throws IllegalArgumentException if any of {@param qs} is not between 0 and 1.
+     */
+    public double[] quantiles(double... qs) {
+        requireQuantiles(qs);
+        double[] result = new double[qs.length];
+        if (count == 0) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int n = 0;
+        for (int level = 0; level < levels.length; level++) {
+            System.arraycopy(levels[level], 0, values, n, sizes[level]);
+            Arrays.fill(weights, n, n + sizes[level], 1L << level);
+            n += sizes[level];
+        }
+        Integer[] order = new Integer[retained];
+        for (int i = 0; i < retained; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        long[] cumulative = new long[retained];
+        long total = 0;
+        for (int i = 0; i < retained; i++) {
+            total += weights[order[i]];
+            cumulative[i] = total;
+        }
+        for (int j = 0; j < qs.length; j++) {
+            if (qs[j] == 0.0) {
+                result[j] = min;
+            } else if (qs[j] == 1.0) {
+                result[j] = max;
+            } else {
+                long target = (long) Math.ceil(qs[j] * total);
+                int index = Arrays.binarySearch(cumulative, target);
+                result[j] = values[order[index >= 0 ? index : -index - 1]];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of values level {@param level} may hold before it is compacted.
+     */
+    private int capacity(int level) {
+        int depth = levels.length - 1 - level;
+        return Math.max(MIN_WIDTH, (int) Math.ceil(k * Math.pow(2.0 / 3.0, depth)));
+    }
+
+    private void append(int level, double value) {
+        while (level >= levels.length) {
+            int added = levels.length;
+            levels = Arrays.copyOf(levels, added + 1);
+            sizes = Arrays.copyOf(sizes, added + 1);
+            levels[added] = new double[capacity(added)];
+            capacity = 0;
+            for (int i = 0; i < levels.length; i++) {
+                capacity += capacity(i);
+            }
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], sizes[level] * 2);
+        }
+        levels[level][sizes[level]++] = value;
+        retained++;
+    }
+
+    /**
+     * Compacts the lowest level that is over its capacity until the sketch is within its total capacity.
+     */
+    private void compress() {
+        while (retained > capacity) {
+            for (int level = 0; level < levels.length; level++) {
+                if (sizes[level] >= capacity(level)) {
+                    compact(level);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void compact(int level) {
+        double[] values = levels[level];
+        int size = sizes[level];
+        Arrays.sort(values, 0, size);
+        int kept = size & 1;
+        int offset = kept + (nextBit() ? 1 : 0);
+        for (int i = offset; i < size; i += 2) {
+            append(level + 1, values[i]);
+        }
+        retained -= size - kept;
+        sizes[level] = kept;
+    }
+
+    private boolean nextBit() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return (seed & 1) != 0;
+    }
+
+    static void requireQuantiles(double... qs) {
+        for (double q : qs) {
+            if (!(q >= 0.0 && q <= 1.0)) {
+                throw new IllegalArgumentException("Quantile " + q + " is not in the interval [0, 1].");
+            }
+        }
+    }
+}
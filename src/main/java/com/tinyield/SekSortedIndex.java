@@ -0,0 +1,164 @@
+package com.tinyield;
+
+import kotlin.Pair;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * An immutable array of elements sorted by a key, which answers lookups by key in logarithmic time.
+ *
+ * <p>Instances are produced by {@code Sek.toSortedIndex} and {@code Sek.toSortedIndexBy}, which extract the key
+ * of each element once. Elements with equal keys keep the order they had in the original sequence.
+ *
+ * <p>For instance, the events that occurred between two instants can be looked up with
+ * {@code events.toSortedIndexBy(Event::timestamp).range(from, to)} instead of filtering all of them.
+ *
+ * @param <T> the type of the elements
+ * @param <K> the type of the keys
+ */
+public final class SekSortedIndex<T, K> {
+
+    private final Object[] elements;
+    private final Object[] keys;
+    private final Comparator<? super K> comparator;
+
+    /**
+     * Sorts {@param elements} in place by their keys, unless they are already sorted, which is checked in linear time.
+     */
+    @SuppressWarnings("unchecked")
+    SekSortedIndex(Object[] elements, Function<? super T, ? extends K> selector, Comparator<? super K> comparator) {
+        Object[] keys = new Object[elements.length];
+        boolean sorted = true;
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = selector.apply((T) elements[i]);
+            if (sorted && i > 0 && comparator.compare((K) keys[i - 1], (K) keys[i]) > 0) {
+                sorted = false;
+            }
+        }
+        if (!sorted) {
+            Pair<K, Object>[] entries = (Pair<K, Object>[]) new Pair<?, ?>[elements.length];
+            for (int i = 0; i < elements.length; i++) {
+                entries[i] = new Pair<>((K) keys[i], elements[i]);
+            }
+            Arrays.sort(entries, (a, b) -> comparator.compare(a.getFirst(), b.getFirst()));
+            for (int i = 0; i < elements.length; i++) {
+                keys[i] = entries[i].getFirst();
+                elements[i] = entries[i].getSecond();
+            }
+        }
+        this.elements = elements;
+        this.keys = keys;
+        this.comparator = comparator;
+    }
+
+    /**
+     * @return the number of elements.
+     */
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * @return the element at the given {@param index} in sorted order.
+     * @throws IndexOutOfBoundsException if {@param index} is out of range.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= elements.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of range for size " + elements.length + ".");
+        }
+        return (T) elements[index];
+    }
+
+    /**
+     * @return the index of the first element whose key is equal to {@param key} or, if there is none,
+     * {@code -(insertionPoint) - 1}, as {@link Arrays#binarySearch(Object[], Object, Comparator)}.
+     */
+    public int binarySearch(K key) {
+        int index = rank(key);
+        return index < keys.length && compare(index, key) == 0 ? index : -index - 1;
+    }
+
+    /**
+     * @return the number of elements whose key is less than {@param key}, which is also the index of the first
+     * element whose key is greater than or equal to {@param key}.
+     */
+    public int rank(K key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(middle, key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the last element whose key is less than or equal to {@param key}, or `null` if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public T floor(K key) {
+        int index = upperBound(key) - 1;
+        return index < 0 ? null : (T) elements[index];
+    }
+
+    /**
+     * @return the first element whose key is greater than or equal to {@param key}, or `null` if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public T ceiling(K key) {
+        int index = rank(key);
+        return index == elements.length ? null : (T) elements[index];
+    }
+
+    /**
+     * @return a sequence of the elements whose key is greater than or equal to {@param from} and less than {@param to},
+     * in sorted order.
+     */
+    public Sek<T> range(K from, K to) {
+        int start = rank(from);
+        int end = Math.max(start, rank(to));
+        return new ListSek<>(asList().subList(start, end));
+    }
+
+    /**
+     * @return a sequence of all elements, in sorted order.
+     */
+    public Sek<T> asSek() {
+        return new ListSek<>(asList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> asList() {
+        return (List<T>) Arrays.asList(elements);
+    }
+
+    /**
+     * @return the index of the first element whose key is greater than {@param key}.
+     */
+    private int upperBound(K key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(middle, key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(int index, K key) {
+        return comparator.compare((K) keys[index], key);
+    }
+}
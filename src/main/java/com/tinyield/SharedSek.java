@@ -0,0 +1,114 @@
+package com.tinyield;
+
+import kotlin.collections.AbstractIterator;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link Sek} whose iterators, possibly used from different threads, share a single pass over a source,
+ * each element being yielded by exactly one of them.
+ *
+ * <p>Iterators claim contiguous batches of elements: over a random-access list a batch is claimed with a single
+ * compare-and-set of the shared position, without locking, while other sources are read one batch at a time
+ * under a lock, so that the lock is taken once per batch rather than once per element.
+ */
+final class SharedSek<T> implements Sek<T> {
+    static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final Sek<T> source;
+    private final int batchSize;
+    private final AtomicInteger position = new AtomicInteger();
+    private Iterator<T> iterator;
+
+    SharedSek(Sek<T> source, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size " + batchSize + " must be greater than zero.");
+        }
+        this.source = source;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (source instanceof ListSek) {
+            return new ListClaims(((ListSek<T>) source).list);
+        }
+        return new IteratorClaims();
+    }
+
+    /**
+     * Claims ranges of positions of a random-access list.
+     */
+    private final class ListClaims extends AbstractIterator<T> {
+        private final List<T> list;
+        private int index;
+        private int end;
+
+        ListClaims(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        protected void computeNext() {
+            if (index == end && !claim()) {
+                done();
+                return;
+            }
+            setNext(list.get(index++));
+        }
+
+        private boolean claim() {
+            int size = list.size();
+            while (true) {
+                int start = position.get();
+                if (start >= size) {
+                    return false;
+                }
+                int next = Math.min(size, start + batchSize);
+                if (position.compareAndSet(start, next)) {
+                    index = start;
+                    end = next;
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies batches of elements out of the shared iterator of the source.
+     */
+    private final class IteratorClaims extends AbstractIterator<T> {
+        private final Object[] batch = new Object[batchSize];
+        private int index;
+        private int end;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void computeNext() {
+            if (index == end && !claim()) {
+                done();
+                return;
+            }
+            T next = (T) batch[index];
+            batch[index++] = null;
+            setNext(next);
+        }
+
+        private boolean claim() {
+            synchronized (SharedSek.this) {
+                if (iterator == null) {
+                    iterator = source.iterator();
+                }
+                int size = 0;
+                while (size < batch.length && iterator.hasNext()) {
+                    batch[size++] = iterator.next();
+                }
+                index = 0;
+                end = size;
+                return size > 0;
+            }
+        }
+    }
+}
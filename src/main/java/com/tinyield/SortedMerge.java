@@ -0,0 +1,157 @@
+package com.tinyield;
+
+import kotlin.collections.AbstractIterator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Single pass merge operations over two sequences sorted by the same comparator.
+ */
+final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    /**
+     * An iterator that can look at its next element without consuming it.
+     */
+    static final class Peeking<T> {
+        private final Iterator<? extends T> source;
+        private T head;
+        private boolean hasHead;
+
+        Peeking(Iterator<? extends T> source) {
+            this.source = source;
+            advance();
+        }
+
+        boolean hasNext() {
+            return hasHead;
+        }
+
+        T peek() {
+            return head;
+        }
+
+        T next() {
+            T current = head;
+            advance();
+            return current;
+        }
+
+        private void advance() {
+            hasHead = source.hasNext();
+            head = hasHead ? source.next() : null;
+        }
+    }
+
+    static <T, U, K, R> Iterator<R> join(
+            Iterator<? extends T> left,
+            Iterator<? extends U> right,
+            Function<? super T, ? extends K> keySelector,
+            Function<? super U, ? extends K> otherKeySelector,
+            Comparator<? super K> comparator,
+            BiFunction<? super T, ? super U, ? extends R> combiner
+    ) {
+        Peeking<U> others = new Peeking<>(right);
+        return new AbstractIterator<R>() {
+            private final List<U> run = new ArrayList<>();
+            private K runKey;
+            private T current;
+            private int index;
+
+            @Override
+            protected void computeNext() {
+                while (index == run.size()) {
+                    if (!left.hasNext()) {
+                        done();
+                        return;
+                    }
+                    current = left.next();
+                    index = 0;
+                    K key = keySelector.apply(current);
+                    if (run.isEmpty() || comparator.compare(runKey, key) != 0) {
+                        fillRun(key);
+                    }
+                }
+                setNext(combiner.apply(current, run.get(index++)));
+            }
+
+            /**
+             * Skips the elements of the other sequence with smaller keys and buffers the ones equal to {@param key}.
+             */
+            private void fillRun(K key) {
+                run.clear();
+                runKey = key;
+                while (others.hasNext()) {
+                    int order = comparator.compare(otherKeySelector.apply(others.peek()), key);
+                    if (order > 0) {
+                        break;
+                    }
+                    U other = others.next();
+                    if (order == 0) {
+                        run.add(other);
+                    }
+                }
+            }
+        };
+    }
+
+    static <T> Iterator<T> union(Iterator<? extends T> left, Iterator<? extends T> right, Comparator<? super T> comparator) {
+        Peeking<T> lefts = new Peeking<>(left);
+        Peeking<T> rights = new Peeking<>(right);
+        return new AbstractIterator<T>() {
+            private T last;
+            private boolean emitted;
+
+            @Override
+            protected void computeNext() {
+                while (rights.hasNext()) {
+                    T other = rights.peek();
+                    if (lefts.hasNext() && comparator.compare(lefts.peek(), other) <= 0) {
+                        break;
+                    }
+                    rights.next();
+                    if (!emitted || comparator.compare(last, other) != 0) {
+                        setNext(other);
+                        return;
+                    }
+                }
+                if (lefts.hasNext()) {
+                    last = lefts.next();
+                    emitted = true;
+                    setNext(last);
+                } else {
+                    done();
+                }
+            }
+        };
+    }
+
+    static <T> Iterator<T> filter(Iterator<? extends T> left, Iterator<? extends T> right, Comparator<? super T> comparator, boolean matching) {
+        Peeking<T> rights = new Peeking<>(right);
+        return new AbstractIterator<T>() {
+            @Override
+            protected void computeNext() {
+                while (left.hasNext()) {
+                    T elem = left.next();
+                    int order = 1;
+                    while (rights.hasNext() && (order = comparator.compare(rights.peek(), elem)) < 0) {
+                        rights.next();
+                    }
+                    boolean found = rights.hasNext() && order == 0;
+                    if (found == matching) {
+                        setNext(elem);
+                        return;
+                    }
+                }
+                done();
+            }
+        };
+    }
+}
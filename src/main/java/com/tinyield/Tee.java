@@ -0,0 +1,219 @@
+package com.tinyield;
+
+import kotlin.collections.AbstractIterator;
+import kotlin.sequences.Sequence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Broadcasts a single pass over a sequence to several branches, each one running concurrently on a thread
+ * of an {@link Executor} and receiving the elements in batches through a bounded queue.
+ */
+final class Tee {
+    static final int BATCH_SIZE = 256;
+    static final int QUEUE_CAPACITY = 4;
+
+    private static final Object[] END = new Object[0];
+    private static final Object[] ABORT = new Object[0];
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    /**
+     * The executor used by {@code Sek.tee(List)}, which reuses idle daemon threads and starts new ones as needed,
+     * since every branch must be running for the source to be read.
+     */
+    static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "sek-tee-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Tee() {
+    }
+
+    static <T, R> List<R> run(Sequence<T> source, List<? extends Function<? super Sek<T>, ? extends R>> branches, Executor executor) {
+        List<Branch<T, R>> running = new ArrayList<>(branches.size());
+        Throwable failure = null;
+        try {
+            for (Function<? super Sek<T>, ? extends R> function : branches) {
+                Branch<T, R> branch = new Branch<>(function);
+                executor.execute(branch);
+                running.add(branch);
+            }
+            Iterator<T> iterator = source.iterator();
+            Object[] batch = new Object[BATCH_SIZE];
+            int size = 0;
+            boolean feeding = true;
+            while (feeding && iterator.hasNext()) {
+                batch[size++] = iterator.next();
+                if (size == BATCH_SIZE) {
+                    feeding = publish(running, batch);
+                    batch = new Object[BATCH_SIZE];
+                    size = 0;
+                }
+            }
+            if (feeding && size > 0) {
+                feeding = publish(running, Arrays.copyOf(batch, size));
+            }
+            if (!feeding || !publish(running, END)) {
+                abort(running);
+            }
+        } catch (Throwable t) {
+            if (t instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            failure = t;
+            abort(running);
+        }
+        List<R> results = new ArrayList<>(running.size());
+        for (Branch<T, R> branch : running) {
+            try {
+                branch.finished.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abort(running);
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+            if (branch.failure != null && (failure == null || isCancellation(failure) && !isCancellation(branch.failure))) {
+                failure = branch.failure;
+            }
+            results.add(branch.result);
+        }
+        if (failure != null) {
+            throw rethrow(failure);
+        }
+        return results;
+    }
+
+    private static boolean isCancellation(Throwable failure) {
+        return failure instanceof CancellationException;
+    }
+
+    /**
+     * Hands {@param batch} to every branch that is still running.
+     *
+     * @return false if there is no point in reading further elements, either because every branch has
+     * already finished or because one of them has failed and the remaining ones should be aborted.
+     */
+    private static boolean publish(List<? extends Branch<?, ?>> branches, Object[] batch) throws InterruptedException {
+        boolean running = false;
+        for (Branch<?, ?> branch : branches) {
+            if (branch.failure != null) {
+                return false;
+            }
+            if (!branch.done) {
+                branch.queue.put(batch);
+                running = true;
+            }
+        }
+        return running;
+    }
+
+    private static void abort(List<? extends Branch<?, ?>> branches) {
+        for (Branch<?, ?> branch : branches) {
+            branch.queue.clear();
+            branch.queue.offer(ABORT);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new IllegalStateException(failure);
+    }
+
+    /**
+     * A downstream pipeline fed by the producer thread.
+     * Once it finishes, early or not, it stops being fed and its queue is released.
+     */
+    static final class Branch<T, R> implements Runnable {
+        final BlockingQueue<Object[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        final Function<? super Sek<T>, ? extends R> function;
+        final CountDownLatch finished = new CountDownLatch(1);
+        volatile boolean done;
+        volatile Throwable failure;
+        R result;
+        private boolean iterated;
+
+        Branch(Function<? super Sek<T>, ? extends R> function) {
+            this.function = function;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Sek<T> elements = this::iterator;
+                result = function.apply(elements);
+            } catch (Throwable t) {
+                failure = t;
+            } finally {
+                done = true;
+                queue.clear();
+                finished.countDown();
+            }
+        }
+
+        private Iterator<T> iterator() {
+            requireRunning();
+            if (iterated) {
+                throw new IllegalStateException("A branch of tee can be iterated only once.");
+            }
+            iterated = true;
+            return new AbstractIterator<T>() {
+                private Object[] batch = new Object[0];
+                private int index;
+
+                @Override
+                @SuppressWarnings("unchecked")
+                protected void computeNext() {
+                    while (index == batch.length) {
+                        requireRunning();
+                        try {
+                            batch = queue.take();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new CancellationException("Interrupted while waiting for elements");
+                        }
+                        if (batch == END) {
+                            done();
+                            return;
+                        }
+                        if (batch == ABORT) {
+                            throw new CancellationException("The source of tee failed");
+                        }
+                        index = 0;
+                    }
+                    setNext((T) batch[index++]);
+                }
+            };
+        }
+
+        /**
+         * Fails instead of waiting forever for elements that will not come, when the elements are read after
+         * the branch function has returned, such as through a lazy result like {@code sek -> sek.filter(...)}.
+         */
+        private void requireRunning() {
+            if (done) {
+                throw new IllegalStateException("The elements of a branch of tee can only be read before its function returns.");
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.tinyield;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class SekBlocksTest {
+
+    private static Sek<Integer> range(int size) {
+        return () -> IntStream.range(0, size).iterator();
+    }
+
+    @Test()
+    void filterAcrossBlocks() {
+        SekBlocks<Integer> blocks = range(10_000).blocks(100)
+                .filter(i -> i % 3 == 0)
+                .filter(i -> i % 5 == 0);
+
+        assertThat(blocks.count()).isEqualTo(667);
+        assertThat(blocks.toList()).startsWith(0, 15, 30).endsWith(9_990);
+    }
+
+    @Test()
+    void mapAfterFilter() {
+        List<String> actual = Sek.of(1, 2, 3, 4, 5, 6).blocks(4)
+                .filter(i -> i % 2 == 0)
+                .map(i -> "#" + i)
+                .toList();
+
+        assertThat(actual).containsExactly("#2", "#4", "#6");
+    }
+
+    @Test()
+    void skipsEmptyBlocks() {
+        SekBlocks<Integer> blocks = range(1_000).blocks(10).filter(i -> i >= 990 || i < 3);
+
+        assertThat(blocks.toList()).containsExactly(0, 1, 2, 990, 991, 992, 993, 994, 995, 996, 997, 998, 999);
+        assertThat(blocks.filter(i -> i > 1_000).count()).isZero();
+    }
+
+    @Test()
+    void matchesElementwise() {
+        Sek<Integer> source = range(5_000);
+        List<Integer> expected = source.filter(i -> i % 7 != 0).map(i -> i * 2).filter(i -> i % 3 == 0).toList();
+
+        assertThat(source.blocks(64).filter(i -> i % 7 != 0).map(i -> i * 2).filter(i -> i % 3 == 0).toList())
+                .isEqualTo(expected);
+        assertThat(Sek.of(source.toList()).blocks().filter(i -> i % 7 != 0).map(i -> i * 2).filter(i -> i % 3 == 0).toList())
+                .isEqualTo(expected);
+    }
+
+    @Test()
+    void forEach() {
+        List<Integer> actual = new ArrayList<>();
+        Sek.of(3, 1, 2).blocks(2).map(i -> -i).forEach(actual::add);
+
+        assertThat(actual).containsExactly(-3, -1, -2);
+    }
+
+    @Test()
+    void fold() {
+        long actual = range(1_000).blocks().filter(i -> i % 2 == 0).fold(0L, (sum, i) -> sum + i);
+
+        assertThat(actual).isEqualTo(249_500L);
+    }
+
+    @Test()
+    void sumBy() {
+        SekBlocks<Integer> blocks = range(10_003).blocks(100).filter(i -> i % 2 == 1);
+
+        assertThat(blocks.sumBy(i -> i)).isEqualTo(range(10_003).filter(i -> i % 2 == 1).sumBy(i -> i));
+        assertThat(blocks.sumByLong(i -> i * 1_000_000L)).isEqualTo(25_010_001_000_000L);
+        assertThat(range(0).blocks().sumBy(i -> i)).isZero();
+    }
+
+    @Test()
+    void sumByDouble() {
+        double actual = range(1_001).blocks(64).sumByDouble(i -> i / 2.0);
+
+        assertThat(actual).isEqualTo(250_250.0);
+        assertThat(range(5).blocks().sumByDouble(i -> 0.1)).isCloseTo(0.5, within(1e-12));
+    }
+
+    @Test()
+    void minAndMaxOf() {
+        SekBlocks<Integer> blocks = range(1_000).blocks(30).filter(i -> i % 7 == 3);
+
+        assertThat(blocks.minOfOrNull(i -> -i)).isEqualTo(-997.0);
+        assertThat(blocks.maxOfOrNull(i -> -i)).isEqualTo(-3.0);
+        assertThat(blocks.maxOfOrNull(i -> i == 500 ? Double.NaN : i)).isNaN();
+        assertThat(blocks.filter(i -> i < 0).minOfOrNull(i -> i)).isNull();
+        assertThat(blocks.filter(i -> i < 0).maxOfOrNull(i -> i)).isNull();
+    }
+
+    @Test()
+    void filterBetween() {
+        Sek<Integer> source = range(5_000);
+        List<Integer> expected = source.filter(i -> i % 3 != 0).filter(i -> i % 100 >= 10 && i % 100 <= 20).toList();
+
+        assertThat(source.blocks(64).filter(i -> i % 3 != 0).filterBetween(i -> i % 100, 10, 20).toList())
+                .isEqualTo(expected);
+        assertThat(source.blocks(64).filterBetween(i -> i % 100, 10, 20).filter(i -> i % 3 != 0).toList())
+                .isEqualTo(expected);
+        assertThat(source.blocks().filterBetween(i -> i, 0, 4_999).count()).isEqualTo(5_000);
+        assertThat(source.blocks().filterBetween(i -> i == 7 ? Double.NaN : i, 0, 9).toList())
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 8, 9);
+    }
+
+    @Test()
+    void asSek() {
+        SekBlocks<Integer> blocks = range(10).blocks(4).filter(i -> i % 3 != 1);
+
+        assertThat(blocks.asSek().toList()).containsExactly(0, 2, 3, 5, 6, 8, 9);
+        assertThat(blocks.asSek().take(2).toList()).containsExactly(0, 2);
+        assertThat(Sek.<Integer>empty().blocks().asSek().count()).isZero();
+    }
+
+    @Test()
+    void reexecutes() {
+        SekBlocks<Integer> blocks = Sek.of(1, 2, 3).blocks().map(i -> i * i);
+
+        assertThat(blocks.toList()).containsExactly(1, 4, 9);
+        assertThat(blocks.toList()).containsExactly(1, 4, 9);
+    }
+}
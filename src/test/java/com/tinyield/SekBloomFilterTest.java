@@ -0,0 +1,113 @@
+package com.tinyield;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class SekBloomFilterTest {
+
+    @Test()
+    void mightContain() {
+        SekBloomFilter filter = new SekBloomFilter(100_000, 0.01);
+        for (long i = 0; i < 100_000; i++) {
+            filter.addLong(i * 7);
+        }
+        int falsePositives = 0;
+        for (long i = 0; i < 100_000; i++) {
+            assertThat(filter.mightContainLong(i * 7)).isTrue();
+            if (filter.mightContainLong(i * 7 + 1)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isCloseTo(0.01, within(0.005));
+        assertThat(filter.expectedFalsePositiveRate()).isCloseTo(0.01, within(0.005));
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(filter.bitSize()).isBetween(958_000L, 959_000L);
+    }
+
+    @Test()
+    void hashesFullContents() {
+        SekBloomFilter filter = new SekBloomFilter(20_000, 0.01);
+        for (long i = 1; i <= 10_000; i++) {
+            filter.add(new UUID(i, i)).add(Double.longBitsToDouble(i << 32 | i));
+        }
+
+        int falsePositives = 0;
+        for (long i = 10_001; i <= 20_000; i++) {
+            if (filter.mightContain(new UUID(i, i)) || filter.mightContain(Double.longBitsToDouble(i << 32 | i))) {
+                falsePositives++;
+            }
+        }
+        assertThat(filter.mightContain(new UUID(7, 7))).isTrue();
+        assertThat(falsePositives).isLessThan(1_000);
+    }
+
+    @Test()
+    void ofWithKeySelector() {
+        SekBloomFilter filter = SekBloomFilter.of(Arrays.asList("a", "bb", "ccc"), 0.001, s -> s.length() * 31L);
+
+        assertThat(filter.mightContainLong(62L)).isTrue();
+        assertThat(filter.mightContainLong(124L)).isFalse();
+    }
+
+    @Test()
+    void boxedAndPrimitiveValues() {
+        SekBloomFilter filter = new SekBloomFilter(10, 0.001)
+                .add(1)
+                .addInt(2)
+                .add(3L)
+                .add("four");
+
+        assertThat(filter.mightContainInt(1)).isTrue();
+        assertThat(filter.mightContain(2)).isTrue();
+        assertThat(filter.mightContainLong(3)).isTrue();
+        assertThat(filter.mightContain("four")).isTrue();
+        assertThat(filter.mightContain("five")).isFalse();
+        assertThat(new SekBloomFilter(0, 0.5).mightContain(null)).isFalse();
+    }
+
+    @Test()
+    void of() {
+        SekBloomFilter filter = SekBloomFilter.of(Sek.of("a", "b", "c").asIterable(), 0.001);
+
+        assertThat(filter.mightContain("b")).isTrue();
+        assertThat(filter.mightContain("d")).isFalse();
+        assertThat(SekBloomFilter.of(Arrays.asList(1, 2), 0.001).mightContain(2)).isTrue();
+    }
+
+    @Test()
+    void merge() {
+        SekBloomFilter first = new SekBloomFilter(100, 0.01).add("a");
+        SekBloomFilter second = new SekBloomFilter(100, 0.01).add("b");
+
+        first.merge(second);
+
+        assertThat(first.mightContain("a")).isTrue();
+        assertThat(first.mightContain("b")).isTrue();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void mergeDifferentSizes() {
+        new SekBloomFilter(100, 0.01).merge(new SekBloomFilter(1000, 0.01));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void invalidFalsePositiveRate() {
+        new SekBloomFilter(100, 1.0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void negativeInsertions() {
+        new SekBloomFilter(-1, 0.1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void tooManyBits() {
+        new SekBloomFilter(Long.MAX_VALUE / 2, 0.01);
+    }
+}
@@ -0,0 +1,147 @@
+package com.tinyield;
+
+import kotlin.Pair;
+import kotlin.collections.IndexedValue;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SekCodecTest {
+
+    static final class Trade {
+        final long timestamp;
+        final String symbol;
+        final double price;
+
+        Trade(long timestamp, String symbol, double price) {
+            this.timestamp = timestamp;
+            this.symbol = symbol;
+            this.price = price;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Trade)) return false;
+            Trade other = (Trade) o;
+            return timestamp == other.timestamp && price == other.price && Objects.equals(symbol, other.symbol);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(timestamp, symbol, price);
+        }
+    }
+
+    private static <T> T roundTrip(SekCodec<T> codec, T value) {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.write(buffer, value);
+        assertThat(buffer.position()).isEqualTo(codec.sizeOf(value));
+        buffer.flip();
+        T actual = codec.read(buffer);
+        assertThat(buffer.hasRemaining()).isFalse();
+        return actual;
+    }
+
+    @Test()
+    void primitives() {
+        assertThat(roundTrip(SekCodec.ofBoolean(), true)).isTrue();
+        assertThat(roundTrip(SekCodec.ofByte(), (byte) -7)).isEqualTo((byte) -7);
+        assertThat(roundTrip(SekCodec.ofChar(), 'x')).isEqualTo('x');
+        assertThat(roundTrip(SekCodec.ofShort(), (short) 300)).isEqualTo((short) 300);
+        assertThat(roundTrip(SekCodec.ofInt(), -42)).isEqualTo(-42);
+        assertThat(roundTrip(SekCodec.ofLong(), Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
+        assertThat(roundTrip(SekCodec.ofFloat(), 1.5f)).isEqualTo(1.5f);
+        assertThat(roundTrip(SekCodec.ofDouble(), Math.PI)).isEqualTo(Math.PI);
+        assertThat(SekCodec.ofLong().width()).isEqualTo(8);
+        assertThat(SekCodec.ofLong().isFixedWidth()).isTrue();
+    }
+
+    @Test()
+    void ofString() {
+        SekCodec<String> codec = SekCodec.ofString();
+        assertThat(codec.isFixedWidth()).isFalse();
+        assertThat(roundTrip(codec, "")).isEmpty();
+        assertThat(roundTrip(codec, null)).isNull();
+        assertThat(roundTrip(codec, "ascii")).isEqualTo("ascii");
+        assertThat(roundTrip(codec, "ação € 😀")).isEqualTo("ação € 😀");
+        assertThat(roundTrip(codec, "lone \uD83D")).isEqualTo("lone ?");
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(16);
+        codec.write(direct, "dé");
+        direct.flip();
+        assertThat(codec.read(direct)).isEqualTo("dé");
+    }
+
+    @Test()
+    void ofPair() {
+        SekCodec<Pair<Integer, String>> codec = SekCodec.ofPair(SekCodec.ofInt(), SekCodec.ofString());
+        assertThat(codec.isFixedWidth()).isFalse();
+        assertThat(roundTrip(codec, new Pair<>(1, "one"))).isEqualTo(new Pair<>(1, "one"));
+        assertThat(SekCodec.ofPair(SekCodec.ofInt(), SekCodec.ofLong()).width()).isEqualTo(12);
+    }
+
+    @Test()
+    void ofIndexedValue() {
+        SekCodec<IndexedValue<Double>> codec = SekCodec.ofIndexedValue(SekCodec.ofDouble());
+        assertThat(codec.width()).isEqualTo(12);
+        assertThat(roundTrip(codec, new IndexedValue<>(3, 2.5))).isEqualTo(new IndexedValue<>(3, 2.5));
+    }
+
+    @Test()
+    void ofRecord() {
+        SekCodec<Trade> codec = SekCodec.ofRecord(
+                values -> new Trade((Long) values[0], (String) values[1], (Double) values[2]),
+                SekCodec.field(SekCodec.ofLong(), t -> t.timestamp),
+                SekCodec.field(SekCodec.ofString(), t -> t.symbol),
+                SekCodec.field(SekCodec.ofDouble(), t -> t.price));
+        Trade trade = new Trade(1L, "ACME", 9.75);
+
+        assertThat(roundTrip(codec, trade)).isEqualTo(trade);
+        assertThat(codec.sizeOf(trade)).isEqualTo(8 + 5 + 8);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void ofRecordWithoutFields() {
+        SekCodec.<Trade>ofRecord(values -> null);
+    }
+
+    @Test()
+    void map() {
+        SekCodec<String> codec = SekCodec.ofInt().map(String::valueOf, Integer::valueOf);
+        assertThat(codec.width()).isEqualTo(4);
+        assertThat(roundTrip(codec, "17")).isEqualTo("17");
+        assertThat(roundTrip(SekCodec.ofString().map(String::length, n -> new String(new char[n])), 3)).isEqualTo(3);
+    }
+
+    @Test()
+    void sizeOfDefault() {
+        SekCodec<String> codec = new SekCodec<String>() {
+            @Override
+            public void write(ByteBuffer destination, String value) {
+                destination.put(value.getBytes());
+            }
+
+            @Override
+            public String read(ByteBuffer source) {
+                return null;
+            }
+        };
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 100; i++) large.append('a');
+
+        assertThat(codec.sizeOf("abc")).isEqualTo(3);
+        assertThat(codec.sizeOf(large.toString())).isEqualTo(100);
+    }
+
+    @Test()
+    void byteOrder() {
+        ByteBuffer buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        SekCodec.ofInt().write(buffer, 1);
+
+        assertThat(buffer.get(0)).isEqualTo((byte) 1);
+    }
+}
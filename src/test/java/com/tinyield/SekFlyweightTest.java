@@ -0,0 +1,88 @@
+package com.tinyield;
+
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SekFlyweightTest {
+
+    static final class Tick extends SekFlyweight<Tick> {
+        long timestamp() {
+            return getLong(0);
+        }
+
+        double price() {
+            return getDouble(8);
+        }
+
+        int volume() {
+            return getInt(16);
+        }
+
+        short venue() {
+            return getShort(20);
+        }
+
+        char side() {
+            return getChar(22);
+        }
+
+        byte flags() {
+            return getByte(24);
+        }
+
+        float spread() {
+            return getFloat(25);
+        }
+    }
+
+    static final int WIDTH = 29;
+
+    static ByteBuffer ticks(ByteOrder order, int count) {
+        ByteBuffer buffer = ByteBuffer.allocate(WIDTH * count).order(order);
+        for (int i = 0; i < count; i++) {
+            buffer.putLong(i).putDouble(i * 1.5).putInt(i * 10).putShort((short) i).putChar('B').put((byte) 1).putFloat(0.5f);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test()
+    void fields() {
+        Tick tick = Sek.ofRecords(ticks(ByteOrder.LITTLE_ENDIAN, 3), WIDTH, Tick::new).elementAt(2);
+
+        assertThat(tick.timestamp()).isEqualTo(2L);
+        assertThat(tick.price()).isEqualTo(3.0);
+        assertThat(tick.volume()).isEqualTo(20);
+        assertThat(tick.venue()).isEqualTo((short) 2);
+        assertThat(tick.side()).isEqualTo('B');
+        assertThat(tick.flags()).isEqualTo((byte) 1);
+        assertThat(tick.spread()).isEqualTo(0.5f);
+        assertThat(tick.width()).isEqualTo(WIDTH);
+    }
+
+    @Test()
+    void reused() {
+        Iterator<Tick> ticks = Sek.ofRecords(ticks(ByteOrder.BIG_ENDIAN, 2), WIDTH, Tick::new).iterator();
+        Tick first = ticks.next();
+        Tick second = ticks.next();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.timestamp()).isEqualTo(1L);
+    }
+
+    @Test()
+    void copy() {
+        List<Tick> copies = Sek.ofRecords(ticks(ByteOrder.LITTLE_ENDIAN, 3), WIDTH, Tick::new)
+                .map(Tick::copy)
+                .toList();
+
+        assertThat(copies).extracting(Tick::timestamp).containsExactly(0L, 1L, 2L);
+        assertThat(copies.get(1).copy().price()).isEqualTo(1.5);
+    }
+}
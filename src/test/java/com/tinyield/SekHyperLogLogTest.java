@@ -0,0 +1,69 @@
+package com.tinyield;
+
+import kotlin.Pair;
+import org.testng.annotations.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class SekHyperLogLogTest {
+
+    @Test()
+    void estimate() {
+        SekHyperLogLog sketch = new SekHyperLogLog(14);
+        for (long i = 0; i < 1_000_000; i++) {
+            sketch.addLong(i);
+            sketch.addLong(i);
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(1_000_000, within(20_000.0));
+        assertThat(sketch.precision()).isEqualTo(14);
+    }
+
+    @Test()
+    void smallCardinalities() {
+        SekHyperLogLog sketch = new SekHyperLogLog(4);
+
+        assertThat(sketch.estimate()).isZero();
+        assertThat(sketch.add("a").add("b").add("a").add(null).estimate()).isEqualTo(3);
+        assertThat(new SekHyperLogLog(5).addInt(1).addInt(2).estimate()).isEqualTo(2);
+        assertThat(new SekHyperLogLog(6).add(1).add(1L).add((short) 1).add((byte) 1).estimate()).isEqualTo(1);
+    }
+
+    @Test()
+    void merge() {
+        SekHyperLogLog first = new SekHyperLogLog(12);
+        SekHyperLogLog second = new SekHyperLogLog(12);
+        for (int i = 0; i < 60_000; i++) {
+            first.add(new Pair<>(i, "a"));
+            second.add(new Pair<>(i + 30_000, "a"));
+        }
+
+        assertThat((double) first.merge(second).estimate()).isCloseTo(90_000, within(4_500.0));
+    }
+
+    @Test()
+    void addHashesFullContents() {
+        SekHyperLogLog doubles = new SekHyperLogLog(12);
+        SekHyperLogLog uuids = new SekHyperLogLog(12);
+        for (long i = 1; i <= 10_000; i++) {
+            doubles.add(Double.longBitsToDouble(i << 32 | i));
+            uuids.add(new UUID(i, i));
+        }
+
+        assertThat((double) doubles.estimate()).isCloseTo(10_000, within(500.0));
+        assertThat((double) uuids.estimate()).isCloseTo(10_000, within(500.0));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void mergeDifferentPrecisions() {
+        new SekHyperLogLog(10).merge(new SekHyperLogLog(11));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void invalidPrecision() {
+        new SekHyperLogLog(SekHyperLogLog.MAX_PRECISION + 1);
+    }
+}
@@ -0,0 +1,52 @@
+package com.tinyield;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SekIntCountMapTest {
+
+    @Test()
+    void increment() {
+        SekIntCountMap counts = new SekIntCountMap();
+
+        assertThat(counts.isEmpty()).isTrue();
+        counts.increment(5);
+        counts.increment(Integer.MIN_VALUE);
+        counts.increment(5);
+
+        assertThat(counts.size()).isEqualTo(2);
+        assertThat(counts.get(5)).isEqualTo(2L);
+        assertThat(counts.get(Integer.MIN_VALUE)).isOne();
+        assertThat(counts.containsKey(0)).isFalse();
+        assertThat(counts.get(0)).isZero();
+    }
+
+    @Test()
+    void grow() {
+        SekIntCountMap counts = new SekIntCountMap();
+        for (int i = 0; i < 100_000; i++) {
+            counts.increment(i % 5_000);
+        }
+
+        assertThat(counts.size()).isEqualTo(5_000);
+        assertThat(counts.get(4_999)).isEqualTo(20L);
+    }
+
+    @Test()
+    void forEach() {
+        SekIntCountMap counts = new SekIntCountMap();
+        counts.increment(9);
+        counts.increment(1);
+        counts.increment(9);
+        List<String> entries = new ArrayList<>();
+
+        counts.forEach((key, count) -> entries.add(key + "x" + count));
+
+        assertThat(entries).containsExactly("9x2", "1x1");
+        assertThat(counts).hasToString("{9=2, 1=1}");
+    }
+}
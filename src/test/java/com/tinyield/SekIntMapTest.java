@@ -0,0 +1,66 @@
+package com.tinyield;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SekIntMapTest {
+
+    @Test()
+    void getOrPut() {
+        SekIntMap<String> map = new SekIntMap<>();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.getOrPut(7, () -> "seven")).isEqualTo("seven");
+        assertThat(map.getOrPut(7, () -> "other")).isEqualTo("seven");
+        assertThat(map.size()).isOne();
+        assertThat(map.containsKey(7)).isTrue();
+        assertThat(map.containsKey(8)).isFalse();
+        assertThat(map.get(8)).isNull();
+        assertThat(map.getOrDefault(8, "none")).isEqualTo("none");
+    }
+
+    @Test()
+    void grow() {
+        SekIntMap<Integer> map = new SekIntMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.getOrPut(i * 31, () -> 0);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.keys()[9_999]).isEqualTo(9_999 * 31);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(map.containsKey(i * 31)).isTrue();
+        }
+    }
+
+    @Test()
+    void forEach() {
+        SekIntMap<String> map = new SekIntMap<>();
+        map.getOrPut(3, () -> "c");
+        map.getOrPut(-1, () -> "a");
+        List<String> entries = new ArrayList<>();
+
+        map.forEach((key, value) -> entries.add(key + value));
+
+        assertThat(entries).containsExactly("3c", "-1a");
+    }
+
+    @Test()
+    void toMap() {
+        SekIntMap<String> map = new SekIntMap<>();
+        map.getOrPut(2, () -> "b");
+        map.getOrPut(1, () -> "a");
+        Map<Integer, String> expected = new LinkedHashMap<>();
+        expected.put(2, "b");
+        expected.put(1, "a");
+
+        assertThat(map.toMap()).containsExactlyEntriesOf(expected);
+        assertThat(map).hasToString("{2=b, 1=a}");
+    }
+}
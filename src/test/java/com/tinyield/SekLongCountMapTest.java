@@ -0,0 +1,52 @@
+package com.tinyield;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SekLongCountMapTest {
+
+    @Test()
+    void increment() {
+        SekLongCountMap counts = new SekLongCountMap();
+
+        assertThat(counts.isEmpty()).isTrue();
+        counts.increment(5L);
+        counts.increment(Long.MIN_VALUE);
+        counts.increment(5L);
+
+        assertThat(counts.size()).isEqualTo(2);
+        assertThat(counts.get(5L)).isEqualTo(2L);
+        assertThat(counts.get(Long.MIN_VALUE)).isOne();
+        assertThat(counts.containsKey(0L)).isFalse();
+        assertThat(counts.get(0L)).isZero();
+    }
+
+    @Test()
+    void grow() {
+        SekLongCountMap counts = new SekLongCountMap();
+        for (int i = 0; i < 100_000; i++) {
+            counts.increment(i % 5_000 * 0x1_0000_0001L);
+        }
+
+        assertThat(counts.size()).isEqualTo(5_000);
+        assertThat(counts.get(4_999 * 0x1_0000_0001L)).isEqualTo(20L);
+    }
+
+    @Test()
+    void forEach() {
+        SekLongCountMap counts = new SekLongCountMap();
+        counts.increment(9L);
+        counts.increment(1L);
+        counts.increment(9L);
+        List<String> entries = new ArrayList<>();
+
+        counts.forEach((key, count) -> entries.add(key + "x" + count));
+
+        assertThat(entries).containsExactly("9x2", "1x1");
+        assertThat(counts).hasToString("{9=2, 1=1}");
+    }
+}
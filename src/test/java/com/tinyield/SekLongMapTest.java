@@ -0,0 +1,66 @@
+package com.tinyield;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SekLongMapTest {
+
+    @Test()
+    void getOrPut() {
+        SekLongMap<String> map = new SekLongMap<>();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.getOrPut(7L, () -> "seven")).isEqualTo("seven");
+        assertThat(map.getOrPut(7L, () -> "other")).isEqualTo("seven");
+        assertThat(map.size()).isOne();
+        assertThat(map.containsKey(7L)).isTrue();
+        assertThat(map.containsKey(8L)).isFalse();
+        assertThat(map.get(8L)).isNull();
+        assertThat(map.getOrDefault(8L, "none")).isEqualTo("none");
+    }
+
+    @Test()
+    void grow() {
+        SekLongMap<Integer> map = new SekLongMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.getOrPut(i * 31L << 32, () -> 0);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.keys()[9_999]).isEqualTo(9_999 * 31L << 32);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(map.containsKey(i * 31L << 32)).isTrue();
+        }
+    }
+
+    @Test()
+    void forEach() {
+        SekLongMap<String> map = new SekLongMap<>();
+        map.getOrPut(3L, () -> "c");
+        map.getOrPut(-1L, () -> "a");
+        List<String> entries = new ArrayList<>();
+
+        map.forEach((key, value) -> entries.add(key + value));
+
+        assertThat(entries).containsExactly("3c", "-1a");
+    }
+
+    @Test()
+    void toMap() {
+        SekLongMap<String> map = new SekLongMap<>();
+        map.getOrPut(2L, () -> "b");
+        map.getOrPut(1L, () -> "a");
+        Map<Long, String> expected = new LinkedHashMap<>();
+        expected.put(2L, "b");
+        expected.put(1L, "a");
+
+        assertThat(map.toMap()).containsExactlyEntriesOf(expected);
+        assertThat(map).hasToString("{2=b, 1=a}");
+    }
+}
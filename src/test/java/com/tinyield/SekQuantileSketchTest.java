@@ -0,0 +1,80 @@
+package com.tinyield;
+
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class SekQuantileSketchTest {
+
+    @Test()
+    void quantiles() {
+        SekQuantileSketch sketch = new SekQuantileSketch();
+        Random random = new Random(1);
+        for (int i = 0; i < 1_000_000; i++) {
+            sketch.add(random.nextDouble());
+        }
+        double[] actual = sketch.quantiles(0, 0.1, 0.5, 0.99, 1);
+
+        assertThat(sketch.count()).isEqualTo(1_000_000);
+        assertThat(actual[0]).isEqualTo(sketch.min());
+        assertThat(actual[1]).isCloseTo(0.1, within(0.01));
+        assertThat(actual[2]).isCloseTo(0.5, within(0.01));
+        assertThat(actual[3]).isCloseTo(0.99, within(0.01));
+        assertThat(actual[4]).isEqualTo(sketch.max());
+        assertThat(sketch.rank(0.25)).isCloseTo(0.25, within(0.01));
+    }
+
+    @Test()
+    void small() {
+        SekQuantileSketch sketch = new SekQuantileSketch(8).add(3).add(1).add(Double.NaN).add(2);
+
+        assertThat(sketch.count()).isEqualTo(3);
+        assertThat(sketch.quantile(0.5)).isEqualTo(2);
+        assertThat(sketch.rank(2)).isCloseTo(2 / 3.0, within(1e-9));
+    }
+
+    @Test()
+    void empty() {
+        SekQuantileSketch sketch = new SekQuantileSketch();
+
+        assertThat(sketch.quantile(0.5)).isNaN();
+        assertThat(sketch.rank(1)).isNaN();
+        assertThat(sketch.min()).isNaN();
+        assertThat(sketch.max()).isNaN();
+    }
+
+    @Test()
+    void merge() {
+        SekQuantileSketch first = new SekQuantileSketch();
+        SekQuantileSketch second = new SekQuantileSketch();
+        for (int i = 0; i < 100_000; i++) {
+            first.add(i);
+            second.add(100_000 + i);
+        }
+        first.merge(second).merge(new SekQuantileSketch());
+
+        assertThat(first.count()).isEqualTo(200_000);
+        assertThat(first.quantile(0.5)).isCloseTo(100_000, within(2_000.0));
+        assertThat(first.min()).isZero();
+        assertThat(first.max()).isEqualTo(199_999);
+        assertThat(new SekQuantileSketch().merge(second).quantile(1)).isEqualTo(199_999);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void mergeDifferentK() {
+        new SekQuantileSketch(100).merge(new SekQuantileSketch(200));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void invalidK() {
+        new SekQuantileSketch(4);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void invalidQuantile() {
+        new SekQuantileSketch().quantile(1.5);
+    }
+}
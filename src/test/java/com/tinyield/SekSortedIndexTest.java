@@ -0,0 +1,89 @@
+package com.tinyield;
+
+import kotlin.Pair;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SekSortedIndexTest {
+
+    private static SekSortedIndex<Pair<Long, String>, Long> events() {
+        Object[] events = {
+                new Pair<>(30L, "c"),
+                new Pair<>(10L, "a"),
+                new Pair<>(20L, "b1"),
+                new Pair<>(40L, "d"),
+                new Pair<>(20L, "b2")
+        };
+        return new SekSortedIndex<>(events, Pair<Long, String>::getFirst, Comparator.<Long>naturalOrder());
+    }
+
+    @Test()
+    void sortsStably() {
+        SekSortedIndex<Pair<Long, String>, Long> index = events();
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.asSek().map(Pair::getSecond).toList()).containsExactly("a", "b1", "b2", "c", "d");
+        assertThat(index.get(2).getSecond()).isEqualTo("b2");
+    }
+
+    @Test()
+    void alreadySorted() {
+        Object[] elements = {1, 2, 2, 5};
+
+        SekSortedIndex<Integer, Integer> index = new SekSortedIndex<>(elements, i -> i, Comparator.<Integer>naturalOrder());
+
+        assertThat(index.asSek().toList()).containsExactly(1, 2, 2, 5);
+        assertThat(index.binarySearch(2)).isEqualTo(1);
+    }
+
+    @Test()
+    void binarySearch() {
+        SekSortedIndex<Pair<Long, String>, Long> index = events();
+
+        assertThat(index.binarySearch(20L)).isEqualTo(1);
+        assertThat(index.binarySearch(40L)).isEqualTo(4);
+        assertThat(index.binarySearch(25L)).isEqualTo(-4);
+        assertThat(index.binarySearch(50L)).isEqualTo(-6);
+        assertThat(index.binarySearch(0L)).isEqualTo(Arrays.binarySearch(new long[]{10}, 0L));
+    }
+
+    @Test()
+    void rank() {
+        SekSortedIndex<Pair<Long, String>, Long> index = events();
+
+        assertThat(index.rank(5L)).isZero();
+        assertThat(index.rank(20L)).isOne();
+        assertThat(index.rank(21L)).isEqualTo(3);
+        assertThat(index.rank(100L)).isEqualTo(5);
+    }
+
+    @Test()
+    void floorAndCeiling() {
+        SekSortedIndex<Pair<Long, String>, Long> index = events();
+
+        assertThat(index.floor(25L).getSecond()).isEqualTo("b2");
+        assertThat(index.floor(30L).getSecond()).isEqualTo("c");
+        assertThat(index.floor(9L)).isNull();
+        assertThat(index.ceiling(25L).getSecond()).isEqualTo("c");
+        assertThat(index.ceiling(20L).getSecond()).isEqualTo("b1");
+        assertThat(index.ceiling(41L)).isNull();
+    }
+
+    @Test()
+    void range() {
+        SekSortedIndex<Pair<Long, String>, Long> index = events();
+
+        assertThat(index.range(20L, 40L).map(Pair::getSecond).toList()).containsExactly("b1", "b2", "c");
+        assertThat(index.range(11L, 19L).toList()).isEmpty();
+        assertThat(index.range(40L, 10L).toList()).isEmpty();
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    void getOutOfRange() {
+        events().get(5);
+    }
+}
@@ -5,24 +5,46 @@ import kotlin.Pair;
 import kotlin.collections.Grouping;
 import kotlin.collections.IndexedValue;
 import kotlin.random.Random;
+import kotlin.random.RandomKt;
 import kotlin.sequences.Sequence;
 import kotlin.sequences.SequencesKt;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IntSummaryStatistics;
 import java.util.Iterator;
 import java.util.List;
+import java.util.LongSummaryStatistics;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 public class SekTest {
 
@@ -37,6 +59,39 @@ public class SekTest {
         assertThat(actual).hasSameElementsAs(expected);
     }
 
+    @Test()
+    void ofRecords() {
+        ByteBuffer buffer = ByteBuffer.allocate(24);
+        buffer.putLong(1).putLong(2).putLong(3).flip();
+        Sek<SekFlyweightTest.Tick> actual = Sek.ofRecords(buffer, 8, SekFlyweightTest.Tick::new);
+
+        assertThat(actual.map(SekFlyweightTest.Tick::timestamp).toList()).containsExactly(1L, 2L, 3L);
+        assertThat(Sek.ofRecords(ByteBuffer.allocate(0), 8, SekFlyweightTest.Tick::new).none()).isTrue();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void ofRecordsPartial() {
+        Sek.ofRecords(ByteBuffer.allocate(10), 8, SekFlyweightTest.Tick::new);
+    }
+
+    @Test()
+    void ofRecordsFile() throws IOException {
+        Path file = Files.createTempFile("sek", ".bin");
+        try {
+            Files.write(file, SekFlyweightTest.ticks(ByteOrder.LITTLE_ENDIAN, 4).array());
+            Sek<SekFlyweightTest.Tick> actual = Sek.ofRecords(file, SekFlyweightTest.WIDTH, ByteOrder.LITTLE_ENDIAN, SekFlyweightTest.Tick::new);
+
+            assertThat(actual.map(SekFlyweightTest.Tick::volume).toList()).containsExactly(0, 10, 20, 30);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expectedExceptions = UncheckedIOException.class)
+    void ofRecordsMissingFile() {
+        Sek.ofRecords(Paths.get("missing.bin"), 8, ByteOrder.BIG_ENDIAN, SekFlyweightTest.Tick::new).count();
+    }
+
     @Test()
     void generate() {
         Iterator<Integer> input = Sek.generate(() -> 1).iterator();
@@ -54,6 +109,105 @@ public class SekTest {
         assertThat(Sek.empty().iterator().hasNext()).isFalse();
     }
 
+    @Test()
+    void decode() {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putInt(1).putInt(2).putInt(3).flip();
+        Sek<Integer> actual = Sek.decode(buffer, SekCodec.ofInt());
+
+        assertThat(actual.toList()).containsExactly(1, 2, 3);
+        assertThat(actual.toList()).containsExactly(1, 2, 3);
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void decodeZeroWidth() {
+        SekCodec<Object> empty = new SekCodec<Object>() {
+            @Override
+            public void write(ByteBuffer destination, Object value) {
+            }
+
+            @Override
+            public Object read(ByteBuffer source) {
+                return null;
+            }
+
+            @Override
+            public int width() {
+                return 0;
+            }
+        };
+        Sek.decode(ByteBuffer.allocate(4), empty);
+    }
+
+    @Test()
+    void mergeSorted() {
+        List<Pair<Integer, String>> actual = Sek.mergeSorted(
+                Comparator.comparing(Pair<Integer, String>::getFirst),
+                Sek.of(new Pair<>(1, "a"), new Pair<>(4, "a"), new Pair<>(4, "a2")),
+                Sek.empty(),
+                Sek.of(new Pair<>(0, "c"), new Pair<>(4, "c"), new Pair<>(9, "c")),
+                Sek.of(new Pair<>(2, "b"), new Pair<>(4, "b"))
+        ).toList();
+
+        assertThat(actual).extracting(p -> p.getFirst() + p.getSecond())
+                .containsExactly("0c", "1a", "2b", "4a", "4a2", "4c", "4b", "9c");
+    }
+
+    @Test()
+    void testMergeSorted() {
+        List<Sek<Integer>> sources = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            int start = i;
+            sources.add(Sek.of(asList(start, start + 7, start + 14)));
+        }
+
+        assertThat(Sek.mergeSorted(Comparator.<Integer>naturalOrder(), sources).toList())
+                .isEqualTo(Sek.of(sources).flatMap(s -> s).sorted().toList());
+        assertThat(Sek.mergeSorted(Comparator.<Integer>naturalOrder(), Sek.of(3, 1)).toList()).containsExactly(3, 1);
+        assertThat(Sek.mergeSorted(Comparator.<Integer>naturalOrder(), new ArrayList<Sek<Integer>>()).none()).isTrue();
+    }
+
+    @Test()
+    void aggregate() {
+        AtomicInteger iterations = new AtomicInteger();
+        Sek<String> sek = Sek.of("a", "bb", "cc", "ddd").onEach(s -> iterations.incrementAndGet());
+
+        List<Object> actual = sek.aggregate(asList(
+                Collectors.counting(),
+                Collectors.joining(","),
+                Collectors.groupingBy(String::length, Collectors.counting())));
+
+        assertThat(iterations.get()).isEqualTo(4);
+        assertThat(actual.get(0)).isEqualTo(4L);
+        assertThat(actual.get(1)).isEqualTo("a,bb,cc,ddd");
+        Map<Integer, Long> counts = new HashMap<>();
+        counts.put(1, 1L);
+        counts.put(2, 2L);
+        counts.put(3, 1L);
+        assertThat(actual.get(2)).isEqualTo(counts);
+    }
+
+    @Test()
+    void testAggregate() {
+        double actual = Sek.of(1, 2, 3, 4)
+                .aggregate(Collectors.summingInt(i -> i), Collectors.counting(), (sum, count) -> (double) sum / count);
+
+        assertThat(actual).isEqualTo(2.5);
+    }
+
+    @Test()
+    void testAggregateThree() {
+        String actual = Sek.of(3, 1, 2)
+                .aggregate(
+                        Collectors.minBy(Comparator.<Integer>naturalOrder()),
+                        Collectors.maxBy(Comparator.<Integer>naturalOrder()),
+                        Collectors.toList(),
+                        (min, max, all) -> min.get() + ".." + max.get() + " " + all);
+
+        assertThat(actual).isEqualTo("1..3 [3, 1, 2]");
+    }
+
     @Test()
     void all() {
         assertThat(Sek.of(1, 2, 3).all(i -> i < 5)).isTrue();
@@ -69,6 +223,61 @@ public class SekTest {
         assertThat(Sek.of(1, 7, 3).any(i -> i > 5)).isTrue();
     }
 
+    @Test()
+    void antiJoin() {
+        List<String> actual = Sek.of("a", "bb", "cc", "ddd")
+                .antiJoin(Sek.of(1, 3, 3), String::length, i -> i)
+                .toList();
+
+        assertThat(actual).containsExactly("bb", "cc");
+    }
+
+    @Test()
+    void antiJoinInt() {
+        List<Integer> actual = Sek.of(asList(1, 2, 3, 4, 5))
+                .antiJoinInt(Sek.of(2, 4), i -> i, i -> i)
+                .toList();
+
+        assertThat(actual).containsExactly(1, 3, 5);
+    }
+
+    @Test()
+    void antiJoinLong() {
+        List<Long> actual = Sek.of(1L, 2L, 3L)
+                .antiJoinLong(Sek.of("x", "yyy"), l -> l, String::length)
+                .toList();
+
+        assertThat(actual).containsExactly(2L);
+    }
+
+    @Test()
+    void approxCountDistinct() {
+        Sek<String> ids = Sek.generate(new AtomicInteger()::getAndIncrement).take(100_000).map(i -> "user-" + (i % 50_000));
+
+        assertThat((double) ids.approxCountDistinct(14)).isCloseTo(50_000, within(2_000.0));
+    }
+
+    @Test()
+    void approxCountDistinctBy() {
+        Sek<Integer> ids = Sek.generate(new AtomicInteger()::getAndIncrement).take(10_000);
+
+        assertThat(ids.approxCountDistinctBy(i -> i % 100, 12)).isBetween(95L, 105L);
+    }
+
+    @Test()
+    void approxCountDistinctByInt() {
+        Sek<Integer> ids = Sek.generate(new AtomicInteger()::getAndIncrement).take(100_000);
+
+        assertThat((double) ids.approxCountDistinctByInt(i -> i / 2, 14)).isCloseTo(50_000, within(2_000.0));
+    }
+
+    @Test()
+    void approxCountDistinctByLong() {
+        Sek<Integer> ids = Sek.generate(new AtomicInteger()::getAndIncrement).take(100_000);
+
+        assertThat((double) ids.approxCountDistinctByLong(i -> i * 1_000_000_007L, 14)).isCloseTo(100_000, within(4_000.0));
+    }
+
     @Test()
     void asIterable() {
         Iterable<Integer> input = Sek.of(1, 2, 3).asIterable();
@@ -187,6 +396,30 @@ public class SekTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test()
+    void blocks() {
+        List<Integer> actual = Sek.of(1, 2, 3, 4, 5)
+                .blocks()
+                .filter(i -> i % 2 == 1)
+                .map(i -> i * 10)
+                .toList();
+
+        assertThat(actual).containsExactly(10, 30, 50);
+    }
+
+    @Test()
+    void testBlocks() {
+        Sek<Integer> sek = Sek.generate(new AtomicInteger(1)::getAndIncrement).take(10);
+
+        assertThat(sek.blocks(3).blockSize()).isEqualTo(3);
+        assertThat(sek.blocks(3).toList()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void blocksNotPositive() {
+        Sek.of(1, 2, 3).blocks(0);
+    }
+
     @Test()
     void chunked() {
         List<List<Integer>> expected = asList(singletonList(1), singletonList(2), singletonList(3));
@@ -219,6 +452,21 @@ public class SekTest {
         assertThat(actual.size()).isEqualTo(3);
     }
 
+    @Test()
+    void concat() {
+        List<Sek<Integer>> shards = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            shards.add(Sek.of(i * 2, i * 2 + 1));
+        }
+
+        Sek<Integer> actual = Sek.concat(shards);
+
+        assertThat(actual.count()).isEqualTo(10_000);
+        assertThat(actual.take(3).toList()).containsExactly(0, 1, 2);
+        assertThat(actual.plus(-1).last()).isEqualTo(-1);
+        assertThat(Sek.concat(new ArrayList<Sek<Integer>>()).count()).isZero();
+    }
+
     @Test()
     void contains() {
         assertThat(Sek.of(1, 2, 3).contains(2)).isTrue();
@@ -234,6 +482,23 @@ public class SekTest {
         assertThat(Sek.of(1, 2, 3).count(i -> i >= 2)).isEqualTo(2);
     }
 
+    @Test()
+    void countByInt() {
+        SekIntCountMap actual = Sek.of("a", "bb", "cc", "ddd", "ee").countByInt(String::length);
+
+        assertThat(actual.keys()).containsExactly(1, 2, 3);
+        assertThat(actual.get(2)).isEqualTo(3L);
+        assertThat(actual.get(4)).isZero();
+    }
+
+    @Test()
+    void countByLong() {
+        SekLongCountMap actual = Sek.of(10L, 20L, 10L, -5L).countByLong(l -> l * 1_000_000_000L);
+
+        assertThat(actual.keys()).containsExactly(10_000_000_000L, 20_000_000_000L, -5_000_000_000L);
+        assertThat(actual.get(10_000_000_000L)).isEqualTo(2L);
+    }
+
     @Test()
     void distinct() {
         Set<Integer> expected = new HashSet<>(asList(1, 2, 3));
@@ -254,6 +519,50 @@ public class SekTest {
         assertThat(actual).hasSameElementsAs(expected);
     }
 
+    @Test()
+    void distinctLru() {
+        List<Integer> actual = Sek.of(1, 2, 1, 3, 4, 1, 2, 2).distinctLru(2).toList();
+
+        assertThat(actual).containsExactly(1, 2, 3, 4, 1, 2);
+    }
+
+    @Test()
+    void distinctLruBy() {
+        AtomicInteger counter = new AtomicInteger();
+
+        List<Integer> actual = Sek.generate(counter::getAndIncrement)
+                .distinctLruBy(3, i -> i % 5)
+                .take(8)
+                .toList();
+
+        assertThat(actual).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(Sek.of("a", "A", "b").distinctLruBy(0, String::toLowerCase).toList()).containsExactly("a", "A", "b");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void testDistinctLruNegative() {
+        Sek.of(1).distinctLru(-1);
+    }
+
+    @Test()
+    void distinctWithin() {
+        List<Integer> actual = Sek.of(1, 1, 2, 1, 3, 3, 4, 5, 1, 1).distinctWithin(2).toList();
+
+        assertThat(actual).containsExactly(1, 2, 3, 4, 5, 1);
+        assertThat(Sek.of(1, 1).distinctWithin(0).toList()).containsExactly(1, 1);
+    }
+
+    @Test()
+    void distinctWithinBy() {
+        AtomicInteger counter = new AtomicInteger();
+        Sek<String> sek = Sek.of("a", "B", "A", "c", "b", "C").distinctWithinBy(3, String::toLowerCase);
+
+        assertThat(sek.toList()).containsExactly("a", "B", "c");
+        assertThat(sek.toList()).containsExactly("a", "B", "c");
+        assertThat(Sek.generate(() -> counter.getAndIncrement() % 4).distinctWithinBy(3, i -> i).take(6).toList())
+                .containsExactly(0, 1, 2, 3, 0, 1);
+    }
+
     @Test()
     void drop() {
         List<Integer> expected = asList(2, 3);
@@ -289,6 +598,15 @@ public class SekTest {
         assertThat(Sek.of(1, 2, 3).elementAtOrNull(3)).isNull();
     }
 
+    @Test()
+    void encodeTo() {
+        ByteBuffer buffer = Sek.of("a", "bc", null)
+                .encodeTo(ByteBuffer.allocate(16), SekCodec.ofString());
+        buffer.flip();
+
+        assertThat(Sek.decode(buffer, SekCodec.ofString()).toList()).containsExactly("a", "bc", null);
+    }
+
     @Test()
     void filter() {
         List<Integer> expected = asList(1, 2);
@@ -416,6 +734,39 @@ public class SekTest {
         Sek.of(1,2,3).flatten().count();
     }
 
+    @Test()
+    void testFlatten() {
+        Sek<Integer> nested = Sek.of(1).plus(2).plus(Sek.of(3).plus(4));
+        List<Integer> actual = Sek.<Object>of(Sek.of(asList(0)), nested, Sek.empty(), asList(5, 6), new HashSet<>(singletonList(7)))
+                .<Integer>flatten()
+                .toList();
+
+        assertThat(actual).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test()
+    void testFlatMapDeep() {
+        Sek<Integer> chained = Sek.of(1, 2);
+        for (int i = 0; i < 20_000; i++) {
+            chained = chained.flatMap(Sek::of);
+        }
+        Sek<Integer> nested = Sek.of(0);
+        for (int i = 1; i <= 20_000; i++) {
+            Sek<Integer> inner = nested;
+            nested = Sek.of(i).flatMap(n -> inner);
+        }
+
+        assertThat(chained.toList()).containsExactly(1, 2);
+        assertThat(nested.toList()).containsExactly(0);
+        assertThat(Sek.of(Sek.of(Sek.of(1).plus(2))).flatten().flatten().plus(3).flatMap(Sek::of).toList()).containsExactly(1, 2, 3);
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    void testFlatMapConcurrentModification() {
+        List<Integer> inner = new ArrayList<>(asList(1, 2, 3));
+        Sek.of(inner).flatMap(Sek::of).forEach(i -> inner.add(i));
+    }
+
     @Test()
     void flatMap() {
         Set<Integer> expected = new HashSet<>(asList(1, 2, 3));
@@ -426,6 +777,15 @@ public class SekTest {
         assertThat(actual).hasSameElementsAs(expected);
     }
 
+    @Test()
+    void testFlatMap() {
+        List<String> actual = Sek.of(3, 0, 2)
+                .flatMap(i -> Sek.of(Sek.generate(() -> "x" + i).take(i).toList()))
+                .toList();
+
+        assertThat(actual).containsExactly("x3", "x3", "x3", "x2", "x2");
+    }
+
     @Test()
     void flatMapTo() {
         List<Integer> expected = asList(1, 2, 3);
@@ -461,6 +821,38 @@ public class SekTest {
         }
     }
 
+    @Test()
+    void groupByInt() {
+        SekIntMap<List<String>> actual = Sek.of("a", "bb", "cc", "ddd").groupByInt(String::length);
+
+        assertThat(actual.keys()).containsExactly(1, 2, 3);
+        assertThat(actual.get(2)).containsExactly("bb", "cc");
+    }
+
+    @Test()
+    void testGroupByInt() {
+        SekIntMap<List<Integer>> actual = Sek.of(1, 2, 3, 4).groupByInt(i -> i % 2, i -> i * 10);
+
+        assertThat(actual.get(0)).containsExactly(20, 40);
+        assertThat(actual.get(1)).containsExactly(10, 30);
+    }
+
+    @Test()
+    void groupByLong() {
+        SekLongMap<List<String>> actual = Sek.of("a", "bb", "cc", "ddd").groupByLong(s -> s.length() * 1L << 40);
+
+        assertThat(actual.keys()).containsExactly(1L << 40, 2L << 40, 3L << 40);
+        assertThat(actual.get(2L << 40)).containsExactly("bb", "cc");
+    }
+
+    @Test()
+    void testGroupByLong() {
+        SekLongMap<List<String>> actual = Sek.of(1L, 2L, 3L).groupByLong(l -> l / 2, l -> "#" + l);
+
+        assertThat(actual.get(0L)).containsExactly("#1");
+        assertThat(actual.get(1L)).containsExactly("#2", "#3");
+    }
+
     @Test()
     void groupByTo() {
         Map<String, List<Integer>> expected = new HashMap<>();
@@ -525,6 +917,27 @@ public class SekTest {
 
     }
 
+    @Test()
+    void histogram() {
+        long[] actual = Sek.of(-1.0, 0.0, 0.5, 1.0, 2.0, 10.0, Double.NaN)
+                .histogram(d -> d, 0, 1, 5);
+
+        assertThat(actual).containsExactly(1, 2, 2, 1);
+    }
+
+    @Test()
+    void histogramIgnoresNaN() {
+        long[] actual = Sek.of(Double.NaN, 3.0, Double.NaN).histogram(d -> d, 0, 1);
+
+        assertThat(actual).containsExactly(0, 0, 1);
+        assertThat(Sek.of(Double.NaN).histogram(d -> d)).containsExactly(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void histogramUnsorted() {
+        Sek.of(1.0).histogram(d -> d, 1, 1);
+    }
+
     @Test()
     void ifEmpty() {
         assertThat(Sek.empty().ifEmpty(() -> Sek.of(1)).count()).isOne();
@@ -545,6 +958,38 @@ public class SekTest {
         assertThat(Sek.of(1, 2, 3).indexOfLast(i -> i < 3)).isOne();
     }
 
+    @Test()
+    void innerJoin() {
+        List<String> actual = Sek.of("a", "bb", null, "cc", "ddd")
+                .innerJoin(Sek.of(1, 2, 2, null), s -> s == null ? null : s.length(), i -> i, (s, i) -> s + i)
+                .toList();
+
+        assertThat(actual).containsExactly("a1", "bb2", "bb2", "nullnull", "cc2", "cc2");
+    }
+
+    @Test()
+    void innerJoinInt() {
+        Sek<Integer> build = Sek.of(1, 2, 3).flatMap(i -> Sek.generate(() -> i).take(20).mapIndexed((idx, v) -> v * 100 + idx));
+        List<Integer> actual = Sek.of(1, 2, 3, 4)
+                .innerJoinInt(build, i -> i, v -> v / 100, (i, v) -> v)
+                .toList();
+
+        assertThat(actual).hasSize(60);
+        assertThat(actual.get(0)).isEqualTo(100);
+        assertThat(actual.get(19)).isEqualTo(119);
+        assertThat(actual.get(59)).isEqualTo(319);
+    }
+
+    @Test()
+    void innerJoinLong() {
+        Sek<Long> build = Sek.of(asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L));
+        List<String> actual = Sek.of(3L, 17L, 42L)
+                .innerJoinLong(build, l -> l * 1_000_000_000L, l -> l * 1_000_000_000L, (l, r) -> l + "=" + r)
+                .toList();
+
+        assertThat(actual).containsExactly("3=3", "17=17");
+    }
+
     @Test()
     void joinTo() {
         String actual = Sek.of(1, 2, 3)
@@ -600,6 +1045,64 @@ public class SekTest {
         assertThat(Sek.of(1, 2, 3).lastOrNull(i -> i > 3)).isNull();
     }
 
+    @Test()
+    void lazySorted() {
+        Random random = RandomKt.Random(11);
+        List<Integer> numbers = Sek.generate(() -> random.nextInt(1000)).take(5000).toList();
+
+        assertThat(Sek.of(numbers).lazySorted().toList()).isEqualTo(Sek.of(numbers).sorted().toList());
+        assertThat(Sek.<Integer>empty().lazySorted().toList()).isEmpty();
+    }
+
+    @Test()
+    void lazySortedBy() {
+        List<String> actual = Sek.of("ccc", "b", "aa", "d", "ee").lazySortedBy(String::length).toList();
+
+        assertThat(actual).containsExactly("b", "d", "aa", "ee", "ccc");
+    }
+
+    @Test()
+    void lazySortedWith() {
+        AtomicInteger comparisons = new AtomicInteger();
+        Comparator<Integer> comparator = (a, b) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(a, b);
+        };
+        List<Integer> numbers = Sek.generate(new AtomicInteger(100_000)::getAndDecrement).take(100_000).toList();
+
+        List<Integer> actual = Sek.of(numbers).lazySortedWith(comparator).take(10).toList();
+
+        assertThat(actual).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(comparisons.get()).isLessThan(300_000);
+    }
+
+    @Test()
+    void leftJoin() {
+        List<Pair<String, Integer>> actual = Sek.of("a", "bb", "ccc")
+                .leftJoin(Sek.of(1, 3), String::length, i -> i, Pair::new)
+                .toList();
+
+        assertThat(actual).containsExactly(new Pair<>("a", 1), new Pair<>("bb", null), new Pair<>("ccc", 3));
+    }
+
+    @Test()
+    void leftJoinInt() {
+        List<String> actual = Sek.of(1, 2, 3)
+                .leftJoinInt(Sek.of("x", "y", "zz"), i -> i, String::length, (i, s) -> i + ":" + s)
+                .toList();
+
+        assertThat(actual).containsExactly("1:x", "1:y", "2:zz", "3:null");
+    }
+
+    @Test()
+    void leftJoinLong() {
+        List<String> actual = Sek.of(1L, 2L)
+                .leftJoinLong(Sek.of(2L), l -> l, l -> l, (l, r) -> l + ":" + r)
+                .toList();
+
+        assertThat(actual).containsExactly("1:null", "2:2");
+    }
+
     @Test()
     void map() {
         Set<String> expected = new HashSet<>(asList("1", "2", "3"));
@@ -688,6 +1191,15 @@ public class SekTest {
         assertThat(Sek.<Integer>empty().maxWithOrNull(Integer::compare)).isNull();
     }
 
+    @Test()
+    void mergeJoin() {
+        List<String> actual = Sek.of("a", "b", "bb", "dd", "eee", "ffff")
+                .mergeJoin(Sek.of(1, 2, 2, 3, 5), String::length, i -> i, Comparator.naturalOrder(), (s, i) -> s + i)
+                .toList();
+
+        assertThat(actual).containsExactly("a1", "b1", "bb2", "bb2", "dd2", "dd2", "eee3");
+    }
+
     @Test()
     void minByOrNull() {
         assertThat(Sek.of(1,2,3).minByOrNull(i -> i)).isEqualTo(1);
@@ -714,6 +1226,48 @@ public class SekTest {
         assertThat(Sek.of(1,2,3).minus(Sek.of(1,2)).count()).isOne();
     }
 
+    @Test()
+    void minusApprox() {
+        List<Integer> excluded = Sek.generate(new AtomicInteger()::getAndIncrement).take(10_000).toList();
+
+        List<Integer> actual = Sek.of(-3, 5, 20_000, 9_999, 40_000).minusApprox(excluded, 0.0001).toList();
+
+        assertThat(actual).containsExactly(-3, 20_000, 40_000);
+    }
+
+    @Test()
+    void minusApproxByLong() {
+        List<UUID> excluded = Sek.generate(new AtomicLong()::incrementAndGet).take(10_000).map(i -> new UUID(i, i)).toList();
+        ToLongFunction<UUID> hasher = uuid -> uuid.getMostSignificantBits() * 31 + uuid.getLeastSignificantBits();
+
+        List<UUID> actual = Sek.of(new UUID(5, 5), new UUID(20_000, 20_000), new UUID(1, 2))
+                .minusApproxByLong(excluded, 0.0001, hasher)
+                .toList();
+
+        assertThat(actual).containsExactly(new UUID(20_000, 20_000), new UUID(1, 2));
+    }
+
+    @Test()
+    void testMinusApproxExactCheck() {
+        Set<String> blocked = new HashSet<>(asList("bob", "eve"));
+        AtomicInteger checks = new AtomicInteger();
+
+        List<String> actual = Sek.of("ann", "bob", "carl", "eve")
+                .minusApprox(blocked, 0.001, name -> checks.incrementAndGet() > 0 && blocked.contains(name))
+                .toList();
+
+        assertThat(actual).containsExactly("ann", "carl");
+        assertThat(checks.get()).isEqualTo(2);
+    }
+
+    @Test()
+    void testMinusApproxFilter() {
+        SekBloomFilter filter = Sek.of(1L, 2L, 3L).toBloomFilter(3, 0.001);
+
+        assertThat(Sek.of(0L, 1L, 3L, 4L).minusApprox(filter).toList()).containsExactly(0L, 4L);
+        assertThat(Sek.of(0L, 1L, 3L, 4L).minusApprox(filter, l -> l != 3L).toList()).containsExactly(0L, 3L, 4L);
+    }
+
     @Test()
     void minWithOrNull() {
         assertThat(Sek.of(1,2,3).minWithOrNull(Integer::compare)).isEqualTo(1);
@@ -756,6 +1310,157 @@ public class SekTest {
         assertThat(actualEach).hasSameElementsAs(expectedEach);
     }
 
+    @Test()
+    void parallelChunks() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> actual = Sek.generate(new AtomicInteger()::getAndIncrement)
+                    .take(10_001)
+                    .parallelChunks(100, executor, chunk -> chunk.filter(i -> i % 2 == 0).map(i -> i / 2))
+                    .toList();
+
+            assertThat(actual).isEqualTo(Sek.generate(new AtomicInteger()::getAndIncrement).take(5_001).toList());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test()
+    void testParallelChunks() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AtomicInteger read = new AtomicInteger();
+            Sek<Integer> source = Sek.generate(read::incrementAndGet);
+
+            List<String> actual = source.parallelChunks(10, 3, executor, chunk -> chunk.map(String::valueOf))
+                    .take(15)
+                    .toList();
+
+            assertThat(actual).hasSize(15).startsWith("1", "2").endsWith("15");
+            assertThat(read.get()).isLessThanOrEqualTo(40);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    void parallelChunksFailure() {
+        Sek.of(1, 2, 3, 4, 5)
+                .parallelChunks(2, Runnable::run, chunk -> chunk.map(i -> {
+                    if (i == 4) {
+                        throw new UnsupportedOperationException();
+                    }
+                    return i;
+                }))
+                .toList();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void parallelChunksNotPositive() {
+        Sek.of(1, 2, 3).parallelChunks(0, Runnable::run, chunk -> chunk);
+    }
+
+    @Test()
+    void parallelEachCount() {
+        List<Integer> numbers = Sek.generate(new AtomicInteger()::getAndIncrement).take(100_000).toList();
+
+        Map<Integer, Long> actual = Sek.of(numbers).parallelEachCount(i -> i % 1000);
+
+        assertThat(actual).hasSize(1000);
+        assertThat(actual.keySet()).contains(0, 1, 999);
+        assertThat(actual.values()).containsOnly(100L);
+    }
+
+    @Test()
+    void testParallelEachCountHighCardinality() {
+        Map<Integer, Long> actual = Sek.generate(new AtomicInteger()::getAndIncrement)
+                .take(300_000)
+                .parallelEachCount(i -> i / 2);
+
+        assertThat(actual).hasSize(150_000);
+        assertThat(actual.values()).containsOnly(2L);
+    }
+
+    @Test()
+    void parallelFold() {
+        Map<Boolean, Long> actual = Sek.generate(new AtomicInteger()::incrementAndGet)
+                .take(50_000)
+                .parallelFold(i -> i % 2 == 0, () -> 0L, (sum, i) -> sum + i, Long::sum);
+
+        assertThat(actual.keySet()).containsExactlyInAnyOrder(false, true);
+        assertThat(actual.get(false)).isEqualTo(625_000_000L);
+        assertThat(actual.get(true)).isEqualTo(625_025_000L);
+    }
+
+    @Test()
+    void parallelGroupBy() {
+        List<Integer> numbers = Sek.generate(new AtomicInteger()::getAndIncrement).take(30_000).toList();
+
+        Map<Integer, List<Integer>> actual = Sek.of(numbers).parallelGroupBy(i -> (i * 31) % 7);
+
+        assertThat(actual).isEqualTo(Sek.of(numbers).groupBy(i -> (i * 31) % 7));
+        assertThat(actual.keySet()).containsExactly(0, 3, 6, 2, 5, 1, 4);
+        assertThat(Sek.<Integer>empty().parallelGroupBy(i -> i)).isEmpty();
+    }
+
+    @Test()
+    void testParallelGroupBy() {
+        Map<Integer, List<String>> actual = Sek.generate(new AtomicInteger()::getAndIncrement)
+                .take(20_000)
+                .parallelGroupBy(i -> i % 3, String::valueOf);
+
+        assertThat(actual.keySet()).containsExactly(0, 1, 2);
+        assertThat(actual.get(1)).hasSize(6667).startsWith("1", "4", "7").endsWith("19999").doesNotHaveDuplicates();
+        assertThat(actual.get(1)).isEqualTo(Sek.generate(new AtomicInteger()::getAndIncrement).take(20_000).groupBy(i -> i % 3, String::valueOf).get(1));
+    }
+
+    @Test()
+    void parallelSorted() {
+        List<Integer> numbers = Sek.generate(new AtomicInteger(100_000)::getAndDecrement).take(100_000).toList();
+
+        List<Integer> actual = Sek.of(numbers).parallelSorted().toList();
+
+        assertThat(actual).isSorted().hasSize(100_000);
+        assertThat(Sek.of(3, 1, 2).parallelSorted().toList()).containsExactly(1, 2, 3);
+    }
+
+    @Test()
+    void parallelSortedBy() {
+        List<String> actual = Sek.generate(new AtomicInteger()::getAndIncrement)
+                .take(20_000)
+                .map(i -> (i % 10) + ":" + i)
+                .parallelSortedBy(s -> s.charAt(0))
+                .toList();
+
+        assertThat(actual.get(0)).isEqualTo("0:0");
+        assertThat(actual.get(1)).isEqualTo("0:10");
+        assertThat(actual.get(19_999)).isEqualTo("9:19999");
+    }
+
+    @Test()
+    void parallelSortedByDescending() {
+        List<String> actual = Sek.of("bb", "a", "ccc", "dd").parallelSortedByDescending(String::length).toList();
+
+        assertThat(actual).containsExactly("ccc", "bb", "dd", "a");
+    }
+
+    @Test()
+    void parallelSortedDescending() {
+        Sek<Integer> sek = Sek.of(asList(4, 9, 1, 7)).parallelSortedDescending();
+
+        assertThat(sek.toList()).containsExactly(9, 7, 4, 1);
+        assertThat(sek.toList()).containsExactly(9, 7, 4, 1);
+    }
+
+    @Test()
+    void parallelSortedWith() {
+        Comparator<String> byLength = Comparator.comparing(String::length);
+
+        List<String> actual = Sek.of("bb", "a", "cc", "d").parallelSortedWith(byLength).toList();
+
+        assertThat(actual).containsExactly("a", "d", "bb", "cc");
+    }
+
     @Test()
     void partition() {
         Pair<List<Integer>, List<Integer>> expected = new Pair<>(asList(1,2), singletonList(3));
@@ -786,6 +1491,41 @@ public class SekTest {
         assertThat(Sek.of(1,2,3).plus(Sek.of(1,2)).count()).isEqualTo(5);
     }
 
+    @Test()
+    void testPlusChain() {
+        Sek<Integer> sek = Sek.empty();
+        for (int i = 0; i < 100_000; i++) {
+            sek = sek.plus(i);
+        }
+        Sek<Integer> prefix = Sek.of(-2, -1);
+        Sek<Integer> first = prefix.plus(0);
+        Sek<Integer> second = prefix.plus(asList(1, 2));
+
+        assertThat(sek.count()).isEqualTo(100_000);
+        assertThat(sek.last()).isEqualTo(99_999);
+        assertThat(first.toList()).containsExactly(-2, -1, 0);
+        assertThat(second.toList()).containsExactly(-2, -1, 1, 2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void quantilesOutOfRange() {
+        Sek<Integer> unreadable = () -> {
+            throw new AssertionError("The sequence should not be iterated");
+        };
+        unreadable.quantiles(i -> i, 0.5, 1.5);
+    }
+
+    @Test()
+    void quantiles() {
+        double[] actual = Sek.generate(new AtomicInteger()::getAndIncrement).take(100_001)
+                .quantiles(i -> i, 0.5, 0.9, 1);
+
+        assertThat(actual[0]).isCloseTo(50_000, within(1_000.0));
+        assertThat(actual[1]).isCloseTo(90_000, within(1_000.0));
+        assertThat(actual[2]).isEqualTo(100_000);
+        assertThat(Sek.<Integer>empty().quantiles(i -> i, 0.5)[0]).isNaN();
+    }
+
     @Test()
     void reduce() {
         assertThat(Sek.of("a","b","c").reduce(String::concat)).isEqualTo("abc");
@@ -835,6 +1575,77 @@ public class SekTest {
         assertThat(Sek.of("a","b","c").runningReduceIndexed((idx, acc, curr) -> acc.concat(curr + idx)).count()).isEqualTo(3);
     }
 
+    @Test()
+    void sample() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) source.add(i);
+
+        assertThat(Sek.of(source).sample(10).toList()).hasSize(10).doesNotHaveDuplicates().isSubsetOf(source);
+        assertThat(Sek.of(source).sample(0).toList()).isEmpty();
+        assertThat(Sek.of(1, 2, 3).sample(5).toList()).containsExactlyInAnyOrder(1, 2, 3);
+
+        int[] hits = new int[100];
+        Random random = RandomKt.Random(42);
+        for (int round = 0; round < 2000; round++) {
+            Sek.of(source.subList(0, 100)).sample(10, random).forEach(i -> hits[i]++);
+        }
+        for (int hit : hits) {
+            assertThat(hit).isBetween(120, 280);
+        }
+    }
+
+    @Test()
+    void testSample() {
+        int[] hits = new int[100];
+        Random random = RandomKt.Random(42);
+        Set<Integer> source = Sek.generate(new AtomicInteger()::getAndIncrement).take(100).toHashSet();
+        for (int round = 0; round < 2000; round++) {
+            Sek.of(source).sample(10, random).forEach(i -> hits[i]++);
+        }
+
+        for (int hit : hits) {
+            assertThat(hit).isBetween(120, 280);
+        }
+        assertThat(Sek.of(source).take(3).sample(5, random).count()).isEqualTo(3);
+    }
+
+    @Test()
+    void sampleMaxSize() {
+        assertThat(Sek.of(1, 2, 3).sample(Integer.MAX_VALUE).toList()).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(Sek.of(1, 2, 3).filter(i -> true).sample(Integer.MAX_VALUE).toList()).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void sampleNegative() {
+        Sek.of(1, 2).sample(-1);
+    }
+
+    @Test()
+    void sampleFraction() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) source.add(i);
+        Random random = RandomKt.Random(7);
+
+        assertThat(Sek.of(source).sampleFraction(0.1, random).count()).isBetween(850, 1150);
+        assertThat(Sek.of(source).sampleFraction(0.5).toList()).isSorted().isSubsetOf(source);
+        assertThat(Sek.of(source).sampleFraction(0).none()).isTrue();
+        assertThat(Sek.of(source).sampleFraction(1).count()).isEqualTo(10000);
+    }
+
+    @Test()
+    void testSampleFraction() {
+        Random random = RandomKt.Random(7);
+        Sek<Integer> source = Sek.of(Sek.generate(new AtomicInteger()::getAndIncrement).take(10000).toHashSet());
+
+        assertThat(source.sampleFraction(0.1, random).count()).isBetween(850, 1150);
+        assertThat(source.sampleFraction(1e-9, random).none()).isTrue();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void sampleFractionInvalid() {
+        Sek.of(1, 2).sampleFraction(1.5);
+    }
+
     @Test()
     void scan() {
         List<String> actual = Sek.of("a", "b", "c")
@@ -857,6 +1668,88 @@ public class SekTest {
         assertThat(actual.get(3)).isEqualTo("_a0b1c2");
     }
 
+    @Test()
+    void semiJoin() {
+        List<String> actual = Sek.of("a", "bb", "cc", "ddd")
+                .semiJoin(Sek.of(2, 2, 3), String::length, i -> i)
+                .toList();
+
+        assertThat(actual).containsExactly("bb", "cc", "ddd");
+    }
+
+    @Test()
+    void semiJoinInt() {
+        Sek<Integer> build = Sek.of(1, 2, 3).flatMap(i -> Sek.generate(() -> i * 7).take(30).mapIndexed(Integer::sum));
+        List<Integer> actual = Sek.of(0, 7, 8, 100)
+                .semiJoinInt(build, i -> i, i -> i)
+                .toList();
+
+        assertThat(actual).containsExactly(7, 8);
+    }
+
+    @Test()
+    void semiJoinLong() {
+        List<Long> actual = Sek.of(1L, 2L, 3L)
+                .semiJoinLong(Sek.of(3L, 1L), l -> l, l -> l)
+                .toList();
+
+        assertThat(actual).containsExactly(1L, 3L);
+    }
+
+    private static List<Integer> drainConcurrently(Sek<Integer> shared, int threads) throws InterruptedException {
+        List<Integer> drained = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> shared.forEach(drained::add));
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return drained;
+    }
+
+    @Test()
+    void shared() throws InterruptedException {
+        List<Integer> source = Sek.generate(new AtomicInteger()::getAndIncrement).take(100_000).toList();
+
+        List<Integer> actual = drainConcurrently(Sek.of(source).shared(), 4);
+
+        Collections.sort(actual);
+        assertThat(actual).isEqualTo(source);
+    }
+
+    @Test()
+    void testShared() throws InterruptedException {
+        Sek<Integer> shared = Sek.generate(new AtomicInteger()::getAndIncrement).take(100_003).shared(10);
+
+        List<Integer> actual = drainConcurrently(shared, 4);
+
+        assertThat(actual).hasSize(100_003).doesNotHaveDuplicates();
+        assertThat(shared.count()).isZero();
+    }
+
+    @Test()
+    void sharedSplitsSequentially() {
+        Sek<Integer> shared = Sek.of(1, 2, 3, 4, 5).shared(2);
+        Iterator<Integer> first = shared.iterator();
+        Iterator<Integer> second = shared.iterator();
+
+        assertThat(first.next()).isEqualTo(1);
+        assertThat(second.next()).isEqualTo(3);
+        assertThat(first.next()).isEqualTo(2);
+        assertThat(first.next()).isEqualTo(5);
+        assertThat(second.next()).isEqualTo(4);
+        assertThat(first.hasNext()).isFalse();
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void sharedNotPositive() {
+        Sek.of(1, 2, 3).shared(0);
+    }
+
     @Test()
     void shuffled() {
         List<Integer> expected = asList(1, 2, 3);
@@ -873,6 +1766,26 @@ public class SekTest {
         assertThat(actual).hasSameElementsAs(expected);
     }
 
+    @Test()
+    void shuffledLazily() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) source.add(i % 10 == 0 ? null : i);
+        List<Integer> actual = Sek.of(source).shuffled(RandomKt.Random(3)).toList();
+
+        assertThat(actual).hasSize(1000).containsExactlyInAnyOrderElementsOf(source);
+        assertThat(actual).isNotEqualTo(source);
+        assertThat(Sek.of(source).shuffled().take(5).toList()).hasSize(5).isSubsetOf(source);
+
+        int[] firsts = new int[4];
+        Random random = RandomKt.Random(11);
+        for (int round = 0; round < 4000; round++) {
+            firsts[Sek.of(0, 1, 2, 3).shuffled(random).first()]++;
+        }
+        for (int hits : firsts) {
+            assertThat(hits).isBetween(850, 1150);
+        }
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     void single() {
         assertThat(Sek.of(1).single()).isOne();
@@ -923,6 +1836,67 @@ public class SekTest {
         }
     }
 
+    @Test()
+    void sortedByDouble() {
+        List<Double> actual = Sek.of(2.5, Double.NaN, -0.0, -1e300, 0.0, Double.NEGATIVE_INFINITY, 1e-300)
+                .sortedByDouble(d -> d)
+                .toList();
+
+        assertThat(actual).containsExactly(Double.NEGATIVE_INFINITY, -1e300, -0.0, 0.0, 1e-300, 2.5, Double.NaN);
+    }
+
+    @Test()
+    void sortedByInt() {
+        Random random = RandomKt.Random(7);
+        List<int[]> records = Sek.generate(() -> new int[]{random.nextInt(-1000, 1000), 0}).take(50_000).toList();
+        for (int i = 0; i < records.size(); i++) {
+            records.get(i)[1] = i;
+        }
+
+        List<int[]> actual = Sek.of(records).sortedByInt(r -> r[0]).toList();
+
+        assertThat(actual).isSortedAccordingTo(Comparator.<int[]>comparingInt(r -> r[0]).thenComparingInt(r -> r[1]));
+        assertThat(Sek.of("bb", "a", "ccc").sortedByInt(String::length).toList()).containsExactly("a", "bb", "ccc");
+        assertThat(Sek.<String>empty().sortedByInt(String::length).toList()).isEmpty();
+    }
+
+    @Test()
+    void sortedByLong() {
+        List<Long> actual = Sek.of(Long.MAX_VALUE, 0L, -1L, 1L << 40, Long.MIN_VALUE, 7L)
+                .sortedByLong(l -> l)
+                .toList();
+
+        assertThat(actual).containsExactly(Long.MIN_VALUE, -1L, 0L, 7L, 1L << 40, Long.MAX_VALUE);
+    }
+
+    @Test()
+    void sortedDifference() {
+        List<Integer> actual = Sek.of(1, 2, 2, 3, 5, 7, 8)
+                .sortedDifference(Sek.of(0, 2, 4, 5, 5, 9), Comparator.naturalOrder())
+                .toList();
+
+        assertThat(actual).containsExactly(1, 3, 7, 8);
+    }
+
+    @Test()
+    void sortedIntersect() {
+        List<Integer> actual = Sek.of(1, 2, 2, 3, 5, 7, 8)
+                .sortedIntersect(Sek.of(0, 2, 4, 5, 5, 9), Comparator.naturalOrder())
+                .toList();
+
+        assertThat(actual).containsExactly(2, 2, 5);
+    }
+
+    @Test()
+    void sortedUnion() {
+        List<Integer> actual = Sek.of(1, 2, 2, 5, 7)
+                .sortedUnion(Sek.of(0, 2, 4, 5, 5, 7, 9, 9), Comparator.naturalOrder())
+                .toList();
+
+        assertThat(actual).containsExactly(0, 1, 2, 2, 4, 5, 7, 9, 9);
+        assertThat(Sek.<Integer>empty().sortedUnion(Sek.of(1), Comparator.naturalOrder()).toList()).containsExactly(1);
+    }
+
     @Test(expectedExceptions = java.lang.ClassCastException.class)
     void sortedDescending() {
         List<Integer> expected = asList(3, 3, 2, 2, 1, 1);
@@ -971,6 +1945,32 @@ public class SekTest {
         assertThat(Sek.of(1, 2, 3).sumByDouble(Double::valueOf)).isEqualTo(6D);
     }
 
+    @Test()
+    void summarizeDouble() {
+        DoubleSummaryStatistics actual = Sek.of("a", "bb", "ccc").summarizeDouble(s -> s.length() / 2.0);
+
+        assertThat(actual.getSum()).isEqualTo(3.0);
+        assertThat(actual.getMax()).isEqualTo(1.5);
+    }
+
+    @Test()
+    void summarizeInt() {
+        IntSummaryStatistics actual = Sek.of("a", "bb", "ccc").summarizeInt(String::length);
+
+        assertThat(actual.getCount()).isEqualTo(3);
+        assertThat(actual.getMin()).isEqualTo(1);
+        assertThat(actual.getMax()).isEqualTo(3);
+        assertThat(actual.getAverage()).isEqualTo(2.0);
+    }
+
+    @Test()
+    void summarizeLong() {
+        LongSummaryStatistics actual = Sek.of(1L, 5L, 3L).summarizeLong(l -> l);
+
+        assertThat(actual.getSum()).isEqualTo(9L);
+        assertThat(actual.getMin()).isEqualTo(1L);
+    }
+
     @Test()
     void take() {
         assertThat(Sek.of(1, 2, 3).take(1).count()).isOne();
@@ -981,11 +1981,181 @@ public class SekTest {
         assertThat(Sek.of(1, 2, 3, 1).takeWhile(i -> i < 2).count()).isOne();
     }
 
+    @Test()
+    void tee() {
+        AtomicInteger iterations = new AtomicInteger();
+        Sek<Integer> source = Sek.of(Sek.generate(iterations::incrementAndGet).take(2000).toList()).constrainOnce();
+
+        List<Object> actual = source.tee(asList(
+                sek -> sek.filter(i -> i % 2 == 0).count(),
+                sek -> sek.map(i -> i * 10).toList(),
+                sek -> sek.last()));
+
+        assertThat(iterations.get()).isEqualTo(2000);
+        assertThat(actual.get(0)).isEqualTo(1000);
+        assertThat(((List<?>) actual.get(1)).size()).isEqualTo(2000);
+        assertThat(((List<?>) actual.get(1)).get(1)).isEqualTo(20);
+        assertThat(actual.get(2)).isEqualTo(2000);
+    }
+
+    @Test()
+    void testTee() {
+        String actual = Sek.of("a", "bb", "ccc")
+                .tee(sek -> sek.toList().toString(), sek -> sek.sumBy(String::length), (text, length) -> text + "=" + length);
+
+        assertThat(actual).isEqualTo("[a, bb, ccc]=6");
+    }
+
+    @Test()
+    void testTeeStopsWhenBranchesFinish() {
+        AtomicInteger counter = new AtomicInteger();
+
+        Integer actual = Sek.generate(counter::incrementAndGet)
+                .tee(sek -> sek.first(), sek -> sek.take(3000).toList(), (first, list) -> first + list.size());
+
+        assertThat(actual).isEqualTo(3001);
+    }
+
+    @Test()
+    void testTeeExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2, task -> new Thread(task, "tee-test"));
+        try {
+            List<Function<Sek<Integer>, String>> branches = asList(
+                    sek -> Thread.currentThread().getName() + ":" + sek.count(),
+                    sek -> Thread.currentThread().getName() + ":" + sek.sumBy(i -> i));
+
+            List<String> actual = Sek.of(1, 2, 3).tee(branches, executor);
+
+            assertThat(actual).containsExactly("tee-test:3", "tee-test:6");
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    void testTeeBranchFailure() {
+        Sek.generate(() -> 1)
+                .tee(sek -> sek.map(i -> {
+                    throw new ArithmeticException();
+                }).toList(), sek -> sek.count(), (list, count) -> count);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    void testTeeSourceFailure() {
+        Sek.of(1, 2, 0, 4)
+                .map(i -> {
+                    if (i == 0) {
+                        throw new IllegalStateException();
+                    }
+                    return i;
+                })
+                .tee(sek -> sek.toList(), sek -> sek.count(), (list, count) -> count);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, timeOut = 10_000)
+    void testTeeLazyBranchResult() {
+        Sek<Integer> lazy = Sek.of(1, 2, 3)
+                .tee(sek -> sek.filter(i -> i > 1), sek -> sek.count(), (filtered, count) -> filtered);
+
+        lazy.toList();
+    }
+
     @Test()
     void then() {
         assertThat(Sek.of(1,2,3).then(s -> SequencesKt.take(s, 1)).count()).isOne();
     }
 
+    @Test()
+    void toArray() {
+        String[] actual = Sek.of("a", "b", "c").toArray(String[]::new);
+        Integer[] generated = Sek.generate(new AtomicInteger()::incrementAndGet).take(40).toArray(Integer[]::new);
+
+        assertThat(actual).containsExactly("a", "b", "c");
+        assertThat(generated).hasSize(40).startsWith(1, 2).endsWith(40);
+    }
+
+    @Test()
+    void toBloomFilter() {
+        SekBloomFilter filter = Sek.of("a", "b").toBloomFilter(2, 0.001);
+
+        assertThat(filter.mightContain("a")).isTrue();
+        assertThat(filter.mightContain("c")).isFalse();
+    }
+
+    @Test()
+    void toBloomFilterByLong() {
+        SekBloomFilter filter = Sek.of(new UUID(1, 2), new UUID(3, 4))
+                .toBloomFilterByLong(2, 0.001, UUID::getLeastSignificantBits);
+
+        assertThat(filter.mightContainLong(4)).isTrue();
+        assertThat(filter.mightContainLong(3)).isFalse();
+    }
+
+    @Test()
+    void toDoubleArray() {
+        double[] actual = Sek.of("a", "bb").map(String::length).toDoubleArray(i -> i / 2.0);
+
+        assertThat(actual).containsExactly(0.5, 1.0);
+    }
+
+    @Test()
+    void toFrozenList() {
+        List<Integer> actual = Sek.generate(new AtomicInteger()::incrementAndGet).take(20).toFrozenList();
+        List<String> fromList = Sek.of("x", "y", null).toFrozenList();
+
+        assertThat(actual).hasSize(20).startsWith(1, 2, 3);
+        assertThat(actual).isEqualTo(Sek.generate(new AtomicInteger()::incrementAndGet).take(20).toList());
+        assertThat(actual.hashCode()).isEqualTo(Sek.generate(new AtomicInteger()::incrementAndGet).take(20).toList().hashCode());
+        assertThat(fromList.indexOf(null)).isEqualTo(2);
+        assertThat(fromList.indexOf("y")).isEqualTo(1);
+        assertThat(fromList.indexOf("z")).isEqualTo(-1);
+        assertThat(fromList.toArray()).containsExactly("x", "y", null);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    void testToFrozenListIsImmutable() {
+        Sek.of(1, 2).toFrozenList().set(0, 3);
+    }
+
+    @Test()
+    void toIntArray() {
+        assertThat(Sek.of("a", "bb", "ccc").toIntArray(String::length)).containsExactly(1, 2, 3);
+        assertThat(Sek.of("a", "bb").filter(x -> true).toIntArray(String::length)).containsExactly(1, 2);
+    }
+
+    @Test()
+    void toLongArray() {
+        long[] actual = Sek.generate(new AtomicInteger()::incrementAndGet).take(17).toLongArray(i -> i * 10L);
+
+        assertThat(actual).hasSize(17).startsWith(10L, 20L).endsWith(170L);
+        assertThat(Sek.of(1, 2).toLongArray(i -> i)).containsExactly(1L, 2L);
+    }
+
+    @Test()
+    void toSortedIndex() {
+        SekSortedIndex<String, String> actual = Sek.of("pear", "apple", "fig").toSortedIndex(Comparator.naturalOrder());
+
+        assertThat(actual.asSek().toList()).containsExactly("apple", "fig", "pear");
+        assertThat(actual.ceiling("b")).isEqualTo("fig");
+    }
+
+    @Test()
+    void toSortedIndexBy() {
+        SekSortedIndex<String, Integer> actual = Sek.of(asList("ccc", "a", "bb", "dd")).toSortedIndexBy(String::length);
+
+        assertThat(actual.range(2, 3).toList()).containsExactly("bb", "dd");
+        assertThat(actual.rank(3)).isEqualTo(3);
+    }
+
+    @Test()
+    void testToSortedIndexBy() {
+        SekSortedIndex<String, Integer> actual = Sek.of("ccc", "a", "bb").toSortedIndexBy(String::length, Comparator.reverseOrder());
+
+        assertThat(actual.asSek().toList()).containsExactly("ccc", "bb", "a");
+        assertThat(actual.floor(2)).isEqualTo("bb");
+    }
+
     @Test(expectedExceptions = java.lang.ClassCastException.class)
     void unzip() {
         Pair<List<Integer>, List<String>> expected = new Pair<>(asList(1,2), asList("1","2"));